@@ -26,5 +26,8 @@ public class SampleApp extends Application {
                 return SampleApp.this;
             }
         });
+
+        //add generated index of @OnBurst handlers
+        LocalBurst.getInstance().addIndex(new SampleBurstIndex());
     }
 }
@@ -1,6 +1,7 @@
 package com.github.lykmapipo.localburst.sample.ui;
 
 import android.os.Bundle;
+import android.util.Log;
 import android.widget.Button;
 import android.widget.Toast;
 
@@ -8,6 +9,7 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.github.lykmapipo.localburst.LocalBurst;
+import com.github.lykmapipo.localburst.OnBurst;
 import com.github.lykmapipo.localburst.sample.R;
 
 
@@ -50,6 +52,20 @@ public class MainActivity extends AppCompatActivity {
             toast(ACTION, bundle);
         });
 
+        // use indexed handlers
+        LocalBurst.getInstance().register(this);
+
+    }
+
+    @Override
+    protected void onDestroy() {
+        LocalBurst.getInstance().unregister(this);
+        super.onDestroy();
+    }
+
+    @OnBurst(ACTION)
+    public void onCustom(@NonNull Bundle extras) {
+        Log.d(TAG, "Custom broadcast handled by indexed handler");
     }
 
     private void toast(@NonNull String action, @NonNull Bundle extras) {
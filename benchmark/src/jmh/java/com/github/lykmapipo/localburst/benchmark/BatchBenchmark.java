@@ -0,0 +1,104 @@
+package com.github.lykmapipo.localburst.benchmark;
+
+import com.github.lykmapipo.localburst.Event;
+import com.github.lykmapipo.localburst.LocalBurst;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time to deliver a burst of emits from a background thread to main thread
+ * listeners, emitting one by one compared to emitting a single batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark {
+    private static final String ACTION = "benchmark/batch";
+    private static final int LISTENERS = 8;
+
+    @Param({"DIRECT", "BROADCAST"})
+    public LocalBurst.Mode mode;
+
+    @Param({"100", "5000"})
+    public int size;
+
+    @Param({"1", "8"})
+    public int actions;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private long expected;
+
+    private LocalBurst burst;
+    private String[] names;
+    private List<Event> events;
+
+    @Setup
+    public void setup() {
+        this.burst = Bursts.burst();
+        this.burst.setMode(this.mode);
+        this.names = Bursts.actions(this.actions);
+        for (String name : this.names) {
+            for (int i = 0; i < LISTENERS; i++) {
+                this.burst.subscribe(name, (action, extras) -> delivered.incrementAndGet());
+            }
+        }
+
+        this.events = new ArrayList<Event>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.events.add(new Event(this.names[i % this.actions]));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.burst.removeAllListeners();
+        this.burst.setMode(LocalBurst.Mode.DIRECT);
+    }
+
+    @Benchmark
+    public long emitLoop() {
+        for (int i = 0; i < this.size; i++) {
+            this.burst.emit(this.names[i % this.actions]);
+        }
+        return this.await();
+    }
+
+    @Benchmark
+    public long emitBatch() {
+        this.burst.emitBatch(this.events);
+        return this.await();
+    }
+
+    /**
+     * Wait for main thread listeners to receive all emits
+     *
+     * @return delivered invocations
+     */
+    private long await() {
+        this.expected += (long) this.size * LISTENERS;
+        long current;
+        while ((current = this.delivered.get()) < this.expected) {
+            Thread.yield();
+        }
+        return current;
+    }
+}
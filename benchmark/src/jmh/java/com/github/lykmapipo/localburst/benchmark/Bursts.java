@@ -0,0 +1,58 @@
+package com.github.lykmapipo.localburst.benchmark;
+
+import android.content.Context;
+import android.os.Bundle;
+
+import com.github.lykmapipo.localburst.LocalBurst;
+
+/**
+ * Shared fixtures of benchmarks
+ */
+final class Bursts {
+    /**
+     * stub application context
+     */
+    private static final Context CONTEXT = new Context();
+
+    private Bursts() {
+    }
+
+    /**
+     * Obtain {@link LocalBurst} without any listener
+     *
+     * @return {@link LocalBurst}
+     */
+    static LocalBurst burst() {
+        LocalBurst burst = LocalBurst.of(() -> CONTEXT);
+        burst.removeAllListeners();
+        return burst;
+    }
+
+    /**
+     * Obtain action names
+     *
+     * @param count number of actions
+     * @return action names
+     */
+    static String[] actions(int count) {
+        String[] actions = new String[count];
+        for (int i = 0; i < count; i++) {
+            actions[i] = "benchmark/action/" + i;
+        }
+        return actions;
+    }
+
+    /**
+     * Obtain extras of a given size
+     *
+     * @param size number of extras
+     * @return extras
+     */
+    static Bundle payload(int size) {
+        Bundle extras = new Bundle();
+        for (int i = 0; i < size; i++) {
+            extras.putString("key" + i, "value" + i);
+        }
+        return extras;
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.lykmapipo.localburst.benchmark;
+
+import android.os.Bundle;
+
+import com.github.lykmapipo.localburst.LocalBurst;
+import com.github.lykmapipo.localburst.Options;
+import com.github.lykmapipo.localburst.Subscription;
+import com.github.lykmapipo.localburst.ThreadMode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of emitting threads while another thread keeps subscribing
+ * and unsubscribing on the same action, compared to a synchronized map of
+ * listener sets as used before the copy-on-write registry.
+ * <p>
+ * Baseline only invokes listeners without validating and routing emits,
+ * so compare how each group scale with threads rather than absolute scores.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+    private static final String ACTION = "benchmark/contention";
+    private static final int LISTENERS = 8;
+
+    private final LocalBurst.OnBroadcastListener churned = (action, extras) -> {
+    };
+
+    private final Map<String, Set<LocalBurst.OnBroadcastListener>> baseline =
+            new HashMap<String, Set<LocalBurst.OnBroadcastListener>>();
+
+    private LocalBurst burst;
+    private Options options;
+    private Bundle extras;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.burst = Bursts.burst();
+        this.options = new Options.Builder().threadMode(ThreadMode.POSTING).build();
+        this.extras = Bursts.payload(0);
+
+        Set<LocalBurst.OnBroadcastListener> listeners =
+                new HashSet<LocalBurst.OnBroadcastListener>();
+        for (int i = 0; i < LISTENERS; i++) {
+            final int index = i;
+            LocalBurst.OnBroadcastListener listener = (action, extras) -> blackhole.consume(index);
+            this.burst.subscribe(ACTION, this.options, listener);
+            listeners.add(listener);
+        }
+        this.baseline.put(ACTION, listeners);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.burst.removeAllListeners();
+    }
+
+    @Benchmark
+    @Group("registry")
+    @GroupThreads(3)
+    public void registryEmit() {
+        this.burst.emit(ACTION, this.extras);
+    }
+
+    @Benchmark
+    @Group("registry")
+    @GroupThreads(1)
+    public Subscription registryChurn() {
+        Subscription subscription = this.burst.subscribe(ACTION, this.options, this.churned);
+        subscription.unsubscribe();
+        return subscription;
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    @GroupThreads(3)
+    public void synchronizedEmit() {
+        synchronized (this.baseline) {
+            for (LocalBurst.OnBroadcastListener listener : this.baseline.get(ACTION)) {
+                listener.onBroadcast(ACTION, this.extras);
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    @GroupThreads(1)
+    public boolean synchronizedChurn() {
+        synchronized (this.baseline) {
+            this.baseline.get(ACTION).add(this.churned);
+            return this.baseline.get(ACTION).remove(this.churned);
+        }
+    }
+}
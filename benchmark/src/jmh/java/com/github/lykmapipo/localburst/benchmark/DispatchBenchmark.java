@@ -0,0 +1,76 @@
+package com.github.lykmapipo.localburst.benchmark;
+
+import android.os.Bundle;
+
+import com.github.lykmapipo.localburst.LocalBurst;
+import com.github.lykmapipo.localburst.Options;
+import com.github.lykmapipo.localburst.ThreadMode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency from emit to listener invocation, including hand over to
+ * listener thread, by {@link ThreadMode}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+    private static final String ACTION = "benchmark/dispatch";
+
+    @Param({"POSTING", "MAIN", "BACKGROUND", "ASYNC"})
+    public ThreadMode threadMode;
+
+    @Param({"0", "8"})
+    public int payload;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private long emitted;
+
+    private LocalBurst burst;
+    private Bundle extras;
+
+    @Setup
+    public void setup() {
+        this.burst = Bursts.burst();
+        this.extras = Bursts.payload(this.payload);
+
+        Options options = new Options.Builder().threadMode(this.threadMode).build();
+        this.burst.subscribe(ACTION, options, (action, extras) -> delivered.incrementAndGet());
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.burst.removeAllListeners();
+    }
+
+    @Benchmark
+    public long emitToListener() {
+        long target = ++this.emitted;
+        this.burst.emit(ACTION, this.extras);
+
+        //wait for listener to be invoked
+        long current;
+        while ((current = this.delivered.get()) < target) {
+            Thread.yield();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.lykmapipo.localburst.benchmark;
+
+import android.os.Bundle;
+
+import com.github.lykmapipo.localburst.Channel;
+import com.github.lykmapipo.localburst.LocalBurst;
+import com.github.lykmapipo.localburst.Options;
+import com.github.lykmapipo.localburst.ThreadMode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of emit to {@link ThreadMode#POSTING} listeners, which measure
+ * routing and fan-out cost without thread hops, by number of listeners per
+ * action, number of actions, extras size and emitting threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmitBenchmark {
+    private static final String UNLISTENED = "benchmark/unlistened";
+    @Param({"1", "10", "100"})
+    public int listeners;
+
+    @Param({"1", "64"})
+    public int actions;
+
+    @Param({"0", "8", "64"})
+    public int payload;
+
+    private LocalBurst burst;
+    private String[] names;
+    private Channel[] channels;
+    private Bundle extras;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.burst = Bursts.burst();
+        this.names = Bursts.actions(this.actions);
+        this.extras = Bursts.payload(this.payload);
+        this.channels = new Channel[this.actions];
+        for (int i = 0; i < this.actions; i++) {
+            this.channels[i] = this.burst.channel(this.names[i]);
+        }
+
+        Options options = new Options.Builder().threadMode(ThreadMode.POSTING).build();
+        for (String name : this.names) {
+            for (int i = 0; i < this.listeners; i++) {
+                final int index = i;
+                this.burst.subscribe(name, options,
+                        (action, extras) -> blackhole.consume(index));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.burst.removeAllListeners();
+    }
+
+    /**
+     * Per thread position in emitted actions
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        String next(String[] names) {
+            return names[this.next(names.length)];
+        }
+
+        int next(int length) {
+            int next = this.next;
+            this.next = next + 1 == length ? 0 : next + 1;
+            return next;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void emit(Cursor cursor) {
+        this.burst.emit(cursor.next(this.names), this.extras);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void emitContended(Cursor cursor) {
+        this.burst.emit(cursor.next(this.names), this.extras);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void emitSync(Cursor cursor) {
+        this.burst.emitSync(cursor.next(this.names), this.extras);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void emitChannel(Cursor cursor) {
+        this.channels[cursor.next(this.actions)].emit(this.extras);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void emitUnlistened() {
+        this.burst.emit(UNLISTENED, Bursts.payload(this.payload));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void emitUnlistenedLazy() {
+        this.burst.emit(UNLISTENED, () -> Bursts.payload(this.payload));
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.lykmapipo.localburst.benchmark;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.github.lykmapipo.localburst.LocalBurst;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency from emit to a main thread listener while main looper is busy
+ * with other messages, comparing emit queued behind them to synchronous
+ * emit which invoke the listener on the calling thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LatencyBenchmark {
+    private static final String ACTION = "benchmark/latency";
+
+    /**
+     * time each busy message keep main thread busy
+     */
+    private static final long BUSY_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    @Param({"DIRECT", "BROADCAST"})
+    public LocalBurst.Mode mode;
+
+    @Param({"0", "50"})
+    public int backlog;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final Handler main = new Handler(Looper.getMainLooper());
+    private long emitted;
+
+    private LocalBurst burst;
+
+    @Setup
+    public void setup() {
+        this.burst = Bursts.burst();
+        this.burst.setMode(this.mode);
+        this.burst.subscribe(ACTION, (action, extras) -> delivered.incrementAndGet());
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.burst.removeAllListeners();
+        this.burst.setMode(LocalBurst.Mode.DIRECT);
+    }
+
+    /**
+     * Fill main looper with busy messages before each emit
+     */
+    @Setup(Level.Invocation)
+    public void load() {
+        for (int i = 0; i < this.backlog; i++) {
+            this.main.post(() -> {
+                long until = System.nanoTime() + BUSY_NANOS;
+                while (System.nanoTime() < until) {
+                    Thread.yield();
+                }
+            });
+        }
+    }
+
+    /**
+     * Wait for main looper to drain, so that backlog does not pile up
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @TearDown(Level.Invocation)
+    public void drain() throws InterruptedException {
+        final CountDownLatch drained = new CountDownLatch(1);
+        this.main.post(drained::countDown);
+        drained.await();
+    }
+
+    @Benchmark
+    public long emit() {
+        long target = ++this.emitted;
+        this.burst.emit(ACTION);
+
+        //wait for listener to be invoked behind backlog
+        long current;
+        while ((current = this.delivered.get()) < target) {
+            Thread.yield();
+        }
+        return current;
+    }
+
+    @Benchmark
+    public long emitSync() {
+        ++this.emitted;
+        this.burst.emitSync(ACTION);
+        return this.delivered.get();
+    }
+}
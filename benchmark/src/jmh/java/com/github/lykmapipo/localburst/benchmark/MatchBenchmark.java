@@ -0,0 +1,117 @@
+package com.github.lykmapipo.localburst.benchmark;
+
+import com.github.lykmapipo.localburst.LocalBurst;
+import com.github.lykmapipo.localburst.Options;
+import com.github.lykmapipo.localburst.ThreadMode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of resolving listeners of an action when actions are subscribed both
+ * exactly and with wildcard patterns, by number of subscribed filters,
+ * compared to testing every filter as intent filters do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchBenchmark {
+    /**
+     * number of filters per module, one of which is a module pattern
+     */
+    private static final int MODULE_SIZE = 100;
+
+    @Param({"1000", "10000"})
+    public int topics;
+
+    private LocalBurst burst;
+    private List<String> filters;
+    private String[] actions;
+    private int next;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.burst = Bursts.burst();
+        Options options = new Options.Builder().threadMode(ThreadMode.POSTING).build();
+        LocalBurst.OnBroadcastListener listener = (action, extras) -> blackhole.consume(action);
+
+        //subscribe exact actions per module, plus a pattern per module
+        this.filters = new ArrayList<String>(this.topics);
+        this.actions = new String[this.topics];
+        int modules = this.topics / MODULE_SIZE;
+        for (int i = 0; i < this.topics; i++) {
+            String module = "app/module" + (i % modules);
+            String filter = i < modules ? module + "/*" : module + "/event" + i;
+            this.burst.subscribe(filter, options, listener);
+            this.filters.add(filter);
+            this.actions[i] = module + "/event" + i;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.burst.removeAllListeners();
+    }
+
+    @Benchmark
+    public void emit() {
+        this.burst.emit(this.nextAction());
+    }
+
+    @Benchmark
+    public int scan() {
+        String action = this.nextAction();
+        int matched = 0;
+        for (String filter : this.filters) {
+            if (matches(filter, action)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    private String nextAction() {
+        String action = this.actions[this.next];
+        this.next = this.next + 1 == this.actions.length ? 0 : this.next + 1;
+        return action;
+    }
+
+    /**
+     * Match an action against a filter segment by segment
+     *
+     * @param filter action or pattern with {@code *} segments
+     * @param action action name
+     * @return whether action match filter
+     */
+    private static boolean matches(String filter, String action) {
+        String[] patterns = filter.split("/");
+        String[] segments = action.split("/");
+        if (patterns.length != segments.length) {
+            return false;
+        }
+        for (int i = 0; i < patterns.length; i++) {
+            if (!patterns[i].equals("*") && !patterns[i].equals(segments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
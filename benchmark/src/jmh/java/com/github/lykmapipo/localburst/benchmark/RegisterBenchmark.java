@@ -0,0 +1,71 @@
+package com.github.lykmapipo.localburst.benchmark;
+
+import com.github.lykmapipo.localburst.LocalBurst;
+import com.github.lykmapipo.localburst.Subscription;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of subscribing and unsubscribing a listener, by number of listeners
+ * already subscribed on the action and number of other actions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegisterBenchmark {
+    private static final String ACTION = "benchmark/register";
+
+    @Param({"0", "100", "1000"})
+    public int listeners;
+
+    private final LocalBurst.OnBroadcastListener listener = (action, extras) -> {
+    };
+
+    private LocalBurst burst;
+
+    @Setup
+    public void setup() {
+        this.burst = Bursts.burst();
+        for (int i = 0; i < this.listeners; i++) {
+            final int index = i;
+            this.burst.subscribe(ACTION, (action, extras) -> action.charAt(index % 8));
+            this.burst.subscribe(ACTION + "/" + i, (action, extras) -> action.charAt(index % 8));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.burst.removeAllListeners();
+    }
+
+    @Benchmark
+    public Subscription subscribeAndUnsubscribe() {
+        Subscription subscription = this.burst.subscribe(ACTION, this.listener);
+        subscription.unsubscribe();
+        return subscription;
+    }
+
+    @Benchmark
+    public boolean subscribeAndRemoveListeners() {
+        this.burst.subscribe(ACTION, this.listener);
+        boolean subscribed = this.burst.hasListener(this.listener);
+        this.burst.removeListeners(this.listener);
+        return subscribed;
+    }
+}
@@ -0,0 +1,8 @@
+package android.content;
+
+/**
+ * JVM stub of android {@code BroadcastReceiver}
+ */
+public abstract class BroadcastReceiver {
+    public abstract void onReceive(Context context, Intent intent);
+}
@@ -0,0 +1,7 @@
+package android.content;
+
+/**
+ * JVM stub of android {@code Context}, only used as application context
+ */
+public class Context {
+}
@@ -0,0 +1,31 @@
+package android.content;
+
+import android.os.Bundle;
+
+/**
+ * JVM stub of android {@code Intent}, carrying an action and extras
+ */
+public class Intent {
+    private final String action;
+    private Bundle extras;
+
+    public Intent(String action) {
+        this.action = action;
+    }
+
+    public String getAction() {
+        return this.action;
+    }
+
+    public Intent putExtras(Bundle extras) {
+        if (this.extras == null) {
+            this.extras = new Bundle();
+        }
+        this.extras.putAll(extras);
+        return this;
+    }
+
+    public Bundle getExtras() {
+        return this.extras == null ? null : new Bundle(this.extras);
+    }
+}
@@ -0,0 +1,16 @@
+package android.content;
+
+/**
+ * JVM stub of android {@code IntentFilter}, matching a single action
+ */
+public class IntentFilter {
+    private final String action;
+
+    public IntentFilter(String action) {
+        this.action = action;
+    }
+
+    public final String getAction(int index) {
+        return this.action;
+    }
+}
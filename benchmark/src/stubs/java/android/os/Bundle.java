@@ -0,0 +1,69 @@
+package android.os;
+
+import java.util.HashMap;
+import java.util.Set;
+
+/**
+ * JVM stub of android {@code Bundle}, backed by a {@link HashMap} like the
+ * real one once unparcelled
+ */
+public final class Bundle implements Cloneable {
+    public static final Bundle EMPTY = new Bundle();
+
+    private final HashMap<String, Object> values;
+
+    public Bundle() {
+        this.values = new HashMap<String, Object>();
+    }
+
+    public Bundle(Bundle bundle) {
+        this.values = new HashMap<String, Object>(bundle.values);
+    }
+
+    public void putAll(Bundle bundle) {
+        this.values.putAll(bundle.values);
+    }
+
+    public void putString(String key, String value) {
+        this.values.put(key, value);
+    }
+
+    public String getString(String key) {
+        Object value = this.values.get(key);
+        return value instanceof String ? (String) value : null;
+    }
+
+    public void putInt(String key, int value) {
+        this.values.put(key, value);
+    }
+
+    public int getInt(String key) {
+        Object value = this.values.get(key);
+        return value instanceof Integer ? (Integer) value : 0;
+    }
+
+    public boolean containsKey(String key) {
+        return this.values.containsKey(key);
+    }
+
+    public Set<String> keySet() {
+        return this.values.keySet();
+    }
+
+    public int size() {
+        return this.values.size();
+    }
+
+    public boolean isEmpty() {
+        return this.values.isEmpty();
+    }
+
+    public void clear() {
+        this.values.clear();
+    }
+
+    @Override
+    public Object clone() {
+        return new Bundle(this);
+    }
+}
@@ -0,0 +1,29 @@
+package android.os;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JVM stub of android {@code Handler}, posting messages to its
+ * {@link Looper} thread
+ */
+public class Handler {
+    private final Looper looper;
+
+    public Handler(Looper looper) {
+        this.looper = looper;
+    }
+
+    public final boolean post(Runnable runnable) {
+        this.looper.queue.execute(runnable);
+        return true;
+    }
+
+    public final boolean postDelayed(Runnable runnable, long delayMillis) {
+        this.looper.queue.schedule(runnable, Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    public final Looper getLooper() {
+        return this.looper;
+    }
+}
@@ -0,0 +1,45 @@
+package android.os;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * JVM stub of android {@code Looper}, where main looper is a single daemon
+ * thread running posted messages in order
+ */
+public final class Looper {
+    private static final Looper MAIN = new Looper();
+
+    private volatile Thread thread;
+
+    final ScheduledExecutorService queue = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "main");
+                    thread.setDaemon(true);
+                    Looper.this.thread = thread;
+                    return thread;
+                }
+            });
+
+    private Looper() {
+    }
+
+    public static Looper getMainLooper() {
+        return MAIN;
+    }
+
+    public static Looper myLooper() {
+        return Thread.currentThread() == MAIN.thread ? MAIN : null;
+    }
+
+    public Thread getThread() {
+        return this.thread;
+    }
+
+    public boolean isCurrentThread() {
+        return Thread.currentThread() == this.thread;
+    }
+}
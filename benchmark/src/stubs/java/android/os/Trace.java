@@ -0,0 +1,15 @@
+package android.os;
+
+/**
+ * JVM stub of android {@code Trace}, where sections are not recorded
+ */
+public final class Trace {
+    private Trace() {
+    }
+
+    public static void beginSection(String sectionName) {
+    }
+
+    public static void endSection() {
+    }
+}
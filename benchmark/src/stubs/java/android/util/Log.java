@@ -0,0 +1,17 @@
+package android.util;
+
+/**
+ * JVM stub of android {@code Log}, writing to standard error
+ */
+public final class Log {
+    private Log() {
+    }
+
+    public static int e(String tag, String msg, Throwable tr) {
+        System.err.println(tag + ": " + msg);
+        if (tr != null) {
+            tr.printStackTrace();
+        }
+        return 0;
+    }
+}
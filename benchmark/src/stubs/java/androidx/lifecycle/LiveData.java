@@ -0,0 +1,60 @@
+package androidx.lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JVM stub of androidx {@code LiveData}, where observers are always active
+ * until their owner is destroyed
+ */
+public abstract class LiveData<T> {
+    private final List<Observer<? super T>> observers = new ArrayList<Observer<? super T>>();
+    private T value;
+
+    public void observe(LifecycleOwner owner, final Observer<? super T> observer) {
+        this.observers.add(observer);
+        if (this.observers.size() == 1) {
+            this.onActive();
+        }
+        owner.getLifecycle().addObserver(new LifecycleEventObserver() {
+            @Override
+            public void onStateChanged(LifecycleOwner source, Lifecycle.Event event) {
+                if (event == Lifecycle.Event.ON_DESTROY) {
+                    source.getLifecycle().removeObserver(this);
+                    removeObserver(observer);
+                }
+            }
+        });
+    }
+
+    public void removeObserver(Observer<? super T> observer) {
+        if (this.observers.remove(observer) && this.observers.isEmpty()) {
+            this.onInactive();
+        }
+    }
+
+    public boolean hasObservers() {
+        return !this.observers.isEmpty();
+    }
+
+    public T getValue() {
+        return this.value;
+    }
+
+    protected void postValue(T value) {
+        this.setValue(value);
+    }
+
+    protected void setValue(T value) {
+        this.value = value;
+        for (Observer<? super T> observer : new ArrayList<Observer<? super T>>(this.observers)) {
+            observer.onChanged(value);
+        }
+    }
+
+    protected void onActive() {
+    }
+
+    protected void onInactive() {
+    }
+}
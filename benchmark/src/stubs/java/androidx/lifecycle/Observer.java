@@ -0,0 +1,8 @@
+package androidx.lifecycle;
+
+/**
+ * JVM stub of androidx {@code Observer}
+ */
+public interface Observer<T> {
+    void onChanged(T t);
+}
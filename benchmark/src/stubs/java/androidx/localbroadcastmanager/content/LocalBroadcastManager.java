@@ -0,0 +1,70 @@
+package androidx.localbroadcastmanager.content;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * JVM stub of androidx {@code LocalBroadcastManager}, which like the real
+ * one allocate an intent delivery per matching receiver
+ */
+public final class LocalBroadcastManager {
+    private static LocalBroadcastManager instance;
+
+    private final HashMap<String, List<BroadcastReceiver>> receivers =
+            new HashMap<String, List<BroadcastReceiver>>();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    public static synchronized LocalBroadcastManager getInstance(Context context) {
+        if (instance == null) {
+            instance = new LocalBroadcastManager();
+        }
+        return instance;
+    }
+
+    public synchronized void registerReceiver(BroadcastReceiver receiver, IntentFilter filter) {
+        List<BroadcastReceiver> actionReceivers = this.receivers.get(filter.getAction(0));
+        if (actionReceivers == null) {
+            actionReceivers = new ArrayList<BroadcastReceiver>();
+            this.receivers.put(filter.getAction(0), actionReceivers);
+        }
+        actionReceivers.add(receiver);
+    }
+
+    public synchronized void unregisterReceiver(BroadcastReceiver receiver) {
+        for (List<BroadcastReceiver> actionReceivers : this.receivers.values()) {
+            actionReceivers.remove(receiver);
+        }
+    }
+
+    public boolean sendBroadcast(final Intent intent) {
+        this.handler.post(new Runnable() {
+            @Override
+            public void run() {
+                sendBroadcastSync(intent);
+            }
+        });
+        return true;
+    }
+
+    public void sendBroadcastSync(Intent intent) {
+        List<BroadcastReceiver> targets;
+        synchronized (this) {
+            List<BroadcastReceiver> actionReceivers = this.receivers.get(intent.getAction());
+            if (actionReceivers == null) {
+                return;
+            }
+            targets = new ArrayList<BroadcastReceiver>(actionReceivers);
+        }
+        for (BroadcastReceiver receiver : targets) {
+            receiver.onReceive(null, intent);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.lykmapipo.common;
+
+import com.github.lykmapipo.common.provider.Provider;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * JVM stub of android-common {@code Common} helpers used by the library
+ */
+public final class Common {
+    private Common() {
+    }
+
+    public static synchronized void of(Provider provider) {
+    }
+
+    public static final class Strings {
+        private Strings() {
+        }
+
+        public static boolean isEmpty(String value) {
+            return value == null || value.trim().isEmpty();
+        }
+
+        public static String valueOr(String value, String defaultValue) {
+            return isEmpty(value) ? defaultValue : value;
+        }
+    }
+
+    public static final class Value {
+        private Value() {
+        }
+
+        @SafeVarargs
+        public static <T> Set<T> setOf(T... values) {
+            Set<T> set = new LinkedHashSet<T>();
+            if (values != null) {
+                for (T value : values) {
+                    if (value != null) {
+                        set.add(value);
+                    }
+                }
+            }
+            return set;
+        }
+    }
+}
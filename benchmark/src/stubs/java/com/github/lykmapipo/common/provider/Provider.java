@@ -0,0 +1,10 @@
+package com.github.lykmapipo.common.provider;
+
+import android.content.Context;
+
+/**
+ * JVM stub of android-common {@code Provider}
+ */
+public interface Provider {
+    Context getApplicationContext();
+}
@@ -0,0 +1,206 @@
+package com.github.lykmapipo.localburst;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.localbroadcastmanager.content.LocalBroadcastManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compatibility {@link Dispatcher} which route emitted action through
+ * {@link LocalBroadcastManager}.
+ * <p>
+ * A single receiver is registered per action once it gain its first
+ * subscription and unregistered once it lose the last one, so each
+ * broadcast is received exactly once.
+ * <p>
+ * Actions without a receiver, which may still match wildcard patterns,
+ * are delivered straight to {@link LocalBurst}.
+ *
+ * @since 0.7.0
+ */
+final class BroadcastDispatcher extends Dispatcher {
+    /**
+     * local reference for {@link LocalBroadcastManager}
+     */
+    private final LocalBroadcastManager localBroadcastManager;
+
+    /**
+     * main thread {@link Handler} used to hand over batches
+     */
+    private final Handler main = new Handler(Looper.getMainLooper());
+
+    /**
+     * whether current thread is delivering a synchronous broadcast
+     */
+    private static final ThreadLocal<Boolean> SYNC = new ThreadLocal<Boolean>() {
+        @Override
+        protected Boolean initialValue() {
+            return Boolean.FALSE;
+        }
+    };
+
+    /**
+     * registered receivers per action
+     */
+    private final ConcurrentHashMap<String, BroadcastReceiver> receivers =
+            new ConcurrentHashMap<String, BroadcastReceiver>();
+
+    BroadcastDispatcher(
+            @NonNull LocalBurst burst,
+            @NonNull LocalBroadcastManager localBroadcastManager) {
+        super(burst);
+        this.localBroadcastManager = localBroadcastManager;
+    }
+
+    @Override
+    void emit(@NonNull String action, @Nullable Object payload) {
+        //typed events can not be carried by intent, and patterns can not
+        //be matched by intent filter
+        if ((payload != null && !(payload instanceof Bundle))
+                || !this.receivers.containsKey(action)) {
+            this.burst.deliver(action, payload, false);
+            return;
+        }
+
+        //bound pending broadcasts by draining them from queue
+        DispatchQueue queue = this.burst.getQueue();
+        if (queue != null) {
+            Intent intent = intentOf(action, payload);
+            queue.offer(action, () -> this.localBroadcastManager.sendBroadcastSync(intent));
+            return;
+        }
+
+        this.localBroadcastManager.sendBroadcast(intentOf(action, payload));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Note: {@link LocalBroadcastManager#sendBroadcastSync(Intent)} also
+     * deliver broadcasts which are still pending, on the calling thread.
+     */
+    @Override
+    void emitSync(@NonNull String action, @Nullable Object payload) {
+        //typed events can not be carried by intent, and patterns can not
+        //be matched by intent filter
+        if ((payload != null && !(payload instanceof Bundle))
+                || !this.receivers.containsKey(action)) {
+            this.burst.deliver(action, payload, true);
+            return;
+        }
+
+        SYNC.set(Boolean.TRUE);
+        try {
+            this.localBroadcastManager.sendBroadcastSync(intentOf(action, payload));
+        } finally {
+            SYNC.set(Boolean.FALSE);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Broadcasts of a batch are handed over to main thread in a single
+     * message, which send them one after another, instead of a message per
+     * broadcast. Actions which can not be broadcasted are delivered straight
+     * to {@link LocalBurst} in a single pass.
+     */
+    @Override
+    void emitBatch(@NonNull List<Event> events) {
+        List<Event> direct = null;
+        final List<Intent> intents = new ArrayList<Intent>(events.size());
+        for (Event event : events) {
+            //typed events can not be carried by intent, and patterns can not
+            //be matched by intent filter
+            if ((event.payload != null && !(event.payload instanceof Bundle))
+                    || !this.receivers.containsKey(event.action)) {
+                direct = direct != null ? direct : new ArrayList<Event>();
+                direct.add(event);
+            } else {
+                intents.add(intentOf(event.action, event.payload));
+            }
+        }
+
+        if (direct != null) {
+            this.burst.deliver(direct, false);
+        }
+
+        if (!intents.isEmpty()) {
+            Runnable send = () -> {
+                for (Intent intent : intents) {
+                    this.localBroadcastManager.sendBroadcastSync(intent);
+                }
+            };
+
+            //bound pending broadcasts by draining them from queue
+            DispatchQueue queue = this.burst.getQueue();
+            if (queue != null) {
+                queue.offer(null, send);
+            } else {
+                this.main.post(send);
+            }
+        }
+    }
+
+    @NonNull
+    private static Intent intentOf(@NonNull String action, @Nullable Object payload) {
+        Intent intent = new Intent(action);
+        if (payload != null) {
+            intent.putExtras((Bundle) payload);
+        }
+        return intent;
+    }
+
+    @Override
+    void subscribe(@NonNull String action) {
+        //register broadcast receiver once per action
+        BroadcastReceiver receiver = new ActionReceiver(this.burst);
+        if (this.receivers.putIfAbsent(action, receiver) == null) {
+            this.localBroadcastManager.registerReceiver(receiver, new IntentFilter(action));
+        }
+    }
+
+    @Override
+    void unsubscribe(@NonNull String action) {
+        //unregister action broadcast receiver
+        BroadcastReceiver receiver = this.receivers.remove(action);
+        if (receiver != null) {
+            this.localBroadcastManager.unregisterReceiver(receiver);
+        }
+    }
+
+    @Override
+    void detach() {
+        for (String action : this.receivers.keySet()) {
+            this.unsubscribe(action);
+        }
+    }
+
+    /**
+     * Receiver registered for a single action which forward received
+     * broadcasts to {@link LocalBurst}
+     */
+    private static final class ActionReceiver extends BroadcastReceiver {
+        private final LocalBurst burst;
+
+        ActionReceiver(@NonNull LocalBurst burst) {
+            this.burst = burst;
+        }
+
+        @Override
+        public void onReceive(Context context, Intent intent) {
+            this.burst.deliver(intent.getAction(), intent.getExtras(), SYNC.get());
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.github.lykmapipo.localburst;
+
+import android.os.Bundle;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reactive streams {@link Publisher} view over an action or typed event,
+ * used to consume bursts off main thread with flow control.
+ * <p>
+ * Each {@link Subscriber} gets its own subscription and buffer. Emits are
+ * buffered until requested, and are signalled either on emitting thread
+ * or on a subscriber chosen {@link Executor}, one at a time and in emit
+ * order. By default up to {@value #DEFAULT_CAPACITY} emits are buffered
+ * per subscriber, dropping oldest ones, use {@link #buffer(int, Overflow)}
+ * to change it or {@link #unbounded()} to buffer every emit.
+ *
+ * @param <T> element type, {@link Bundle} for action streams
+ * @see LocalBurst#stream(String)
+ * @see LocalBurst#stream(Class)
+ * @since 0.7.0
+ */
+public final class BurstPublisher<T> implements Publisher<T> {
+    private static final String TAG = BurstPublisher.class.getSimpleName();
+
+    /**
+     * default maximum number of buffered emits per subscriber
+     */
+    static final int DEFAULT_CAPACITY = 128;
+
+    /**
+     * {@link Options} of stream listeners, which only hand over emits to
+     * subscribers
+     */
+    private static final Options OPTIONS =
+            new Options.Builder().threadMode(ThreadMode.POSTING).build();
+
+    private final LocalBurst burst;
+
+    /**
+     * action name or null for events of type
+     */
+    @Nullable
+    private final String action;
+
+    /**
+     * typed event class or null for action extras
+     */
+    @Nullable
+    private final Class<T> type;
+
+    /**
+     * executor to signal subscribers on or null for emitting thread
+     */
+    @Nullable
+    private final Executor executor;
+
+    /**
+     * maximum number of buffered emits per subscriber
+     */
+    private final int capacity;
+    private final Overflow overflow;
+
+    BurstPublisher(
+            @NonNull LocalBurst burst, @Nullable String action, @Nullable Class<T> type,
+            @Nullable Executor executor, int capacity, @NonNull Overflow overflow) {
+        this.burst = burst;
+        this.action = action;
+        this.type = type;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.overflow = overflow;
+    }
+
+    /**
+     * Signal subscribers on a given {@link Executor}, such as an
+     * application thread pool
+     *
+     * @param executor {@link Executor} to signal subscribers on
+     * @return new {@link BurstPublisher}
+     */
+    @NonNull
+    public BurstPublisher<T> observeOn(@NonNull Executor executor) {
+        return new BurstPublisher<T>(
+                this.burst, this.action, this.type, executor, this.capacity, this.overflow);
+    }
+
+    /**
+     * Bound number of emits buffered per subscriber while there is no demand
+     *
+     * @param capacity maximum number of buffered emits
+     * @param overflow {@link Overflow} policy when buffer is full, where
+     *                 {@link Overflow#CONFLATE} keep only latest emit and
+     *                 {@link Overflow#BLOCK} only block emitting threads other
+     *                 than main thread when signalling on an {@link Executor},
+     *                 and drop new emit otherwise
+     * @return new {@link BurstPublisher}
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    @NonNull
+    public BurstPublisher<T> buffer(int capacity, @NonNull Overflow overflow) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Buffer capacity must be positive");
+        }
+        return new BurstPublisher<T>(
+                this.burst, this.action, this.type, this.executor, capacity, overflow);
+    }
+
+    /**
+     * Buffer every emit while there is no demand, which grow without limit
+     * when subscriber stop requesting
+     *
+     * @return new {@link BurstPublisher}
+     */
+    @NonNull
+    public BurstPublisher<T> unbounded() {
+        return new BurstPublisher<T>(
+                this.burst, this.action, this.type, this.executor,
+                Integer.MAX_VALUE, Overflow.DROP_OLDEST);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must not be null");
+        }
+
+        Stream<T> stream = new Stream<T>(this, subscriber);
+        subscriber.onSubscribe(stream);
+        stream.start();
+    }
+
+    /**
+     * Subscription of a single {@link Subscriber}, which buffer emits and
+     * drain them as requested
+     */
+    private static final class Stream<T>
+            implements org.reactivestreams.Subscription, Runnable {
+        private final BurstPublisher<T> publisher;
+        private final Subscriber<? super T> subscriber;
+
+        /**
+         * buffered emits, guarded by this
+         */
+        private final ArrayDeque<T> buffer = new ArrayDeque<T>();
+
+        /**
+         * outstanding demand
+         */
+        private final AtomicLong requested = new AtomicLong();
+
+        /**
+         * pending drains, only a thread which increment from zero drain
+         */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        /**
+         * thread signalling subscriber or null when not draining
+         */
+        @Nullable
+        private volatile Thread drainer;
+
+        /**
+         * bus subscription or null when not yet started or cancelled
+         */
+        @Nullable
+        private volatile Subscription subscription;
+
+        Stream(@NonNull BurstPublisher<T> publisher, @NonNull Subscriber<? super T> subscriber) {
+            this.publisher = publisher;
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Start receiving emits, unless cancelled from onSubscribe
+         */
+        @SuppressWarnings("unchecked")
+        void start() {
+            Subscription subscription;
+            if (this.publisher.type != null) {
+                LocalBurst.OnEventListener<T> listener = event -> this.offer(event);
+                subscription = this.publisher.action != null
+                        ? this.publisher.burst.subscribe(
+                        this.publisher.action, this.publisher.type, OPTIONS, listener)
+                        : this.publisher.burst.subscribe(this.publisher.type, OPTIONS, listener);
+            } else {
+                LocalBurst.OnBroadcastListener listener = (action, extras) ->
+                        this.offer((T) (extras != null ? extras : new Bundle()));
+                subscription = this.publisher.burst.subscribe(
+                        this.publisher.action, OPTIONS, listener);
+            }
+
+            this.subscription = subscription;
+            if (this.cancelled && subscription != null) {
+                subscription.unsubscribe();
+            }
+        }
+
+        /**
+         * Buffer an emit and drain it if requested
+         *
+         * @param item emitted element
+         */
+        private void offer(@NonNull T item) {
+            synchronized (this) {
+                if (this.cancelled) {
+                    return;
+                }
+
+                //keep only latest emit
+                if (this.publisher.overflow == Overflow.CONFLATE && !this.buffer.isEmpty()) {
+                    this.buffer.pollLast();
+                }
+
+                if (this.buffer.size() >= this.publisher.capacity) {
+                    switch (this.publisher.overflow) {
+                        case BLOCK:
+                            //drop instead of waiting for a drain which can not run
+                            if (!this.canBlock()) {
+                                return;
+                            }
+                            while (this.buffer.size() >= this.publisher.capacity
+                                    && !this.cancelled) {
+                                try {
+                                    this.wait();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                    return;
+                                }
+                            }
+                            if (this.cancelled) {
+                                return;
+                            }
+                            break;
+
+                        case DROP_NEWEST:
+                            return;
+
+                        default:
+                            this.buffer.poll();
+                            break;
+                    }
+                }
+
+                this.buffer.offer(item);
+            }
+            this.schedule();
+        }
+
+        /**
+         * Check if emitting thread may wait for buffer room, which is not the
+         * case on main thread, on the thread signalling subscriber, or when
+         * subscriber is signalled on emitting thread
+         *
+         * @return whether emitting thread may block
+         */
+        private boolean canBlock() {
+            return this.publisher.executor != null
+                    && Looper.myLooper() != Looper.getMainLooper()
+                    && Thread.currentThread() != this.drainer;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.cancel();
+                this.subscriber.onError(new IllegalArgumentException(
+                        "Requested elements must be positive"));
+                return;
+            }
+
+            //add demand, capped to unbounded
+            long current;
+            long next;
+            do {
+                current = this.requested.get();
+                if (current == Long.MAX_VALUE) {
+                    break;
+                }
+                next = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!this.requested.compareAndSet(current, next));
+
+            this.schedule();
+        }
+
+        @Override
+        public void cancel() {
+            if (this.cancelled) {
+                return;
+            }
+            this.cancelled = true;
+
+            Subscription subscription = this.subscription;
+            if (subscription != null) {
+                subscription.unsubscribe();
+            }
+
+            synchronized (this) {
+                this.buffer.clear();
+                this.notifyAll();
+            }
+        }
+
+        private void schedule() {
+            if (this.wip.getAndIncrement() == 0) {
+                Executor executor = this.publisher.executor;
+                if (executor != null) {
+                    executor.execute(this);
+                } else {
+                    this.run();
+                }
+            }
+        }
+
+        /**
+         * Signal buffered emits up to outstanding demand
+         */
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                this.drainer = Thread.currentThread();
+                long requested = this.requested.get();
+                long emitted = 0;
+                while (emitted != requested && !this.cancelled) {
+                    T item;
+                    synchronized (this) {
+                        item = this.buffer.poll();
+                        if (item == null) {
+                            break;
+                        }
+                        this.notifyAll();
+                    }
+
+                    try {
+                        this.subscriber.onNext(item);
+                    } catch (RuntimeException e) {
+                        //subscriber violated the specification, keep it from bus delivery
+                        Log.e(TAG, "Subscriber failed, cancelling its subscription", e);
+                        this.cancel();
+                        break;
+                    }
+                    emitted++;
+                }
+
+                if (emitted != 0 && requested != Long.MAX_VALUE) {
+                    this.requested.addAndGet(-emitted);
+                }
+                this.drainer = null;
+                missed = this.wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
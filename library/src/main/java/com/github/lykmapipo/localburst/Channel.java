@@ -0,0 +1,147 @@
+package com.github.lykmapipo.localburst;
+
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Pre-resolved handle of an action obtained from {@link LocalBurst#channel(String)}.
+ * <p>
+ * Action is validated and resolved once when the channel is obtained, so
+ * emitting through a channel skips action validation and lookup, and with
+ * {@link LocalBurst.Mode#DIRECT} reads listeners straight from the channel
+ * listeners array. Each channel has a unique integer id which can be used
+ * to index per action state.
+ *
+ * @since 0.7.0
+ */
+public final class Channel {
+    /**
+     * owning {@link LocalBurst}
+     */
+    private final LocalBurst burst;
+
+    /**
+     * resolved action topic
+     */
+    final Registry.Topic topic;
+
+    Channel(@NonNull LocalBurst burst, @NonNull Registry.Topic topic) {
+        this.burst = burst;
+        this.topic = topic;
+    }
+
+    /**
+     * Obtain channel id, unique per action
+     *
+     * @return channel id
+     */
+    public int getId() {
+        return this.topic.id;
+    }
+
+    /**
+     * Obtain channel action name
+     *
+     * @return action name
+     */
+    @NonNull
+    public String getName() {
+        return this.topic.action;
+    }
+
+    /**
+     * Emit/Notify channel action
+     */
+    public void emit() {
+        this.burst.dispatch(this.topic, null);
+    }
+
+    /**
+     * Emit/Notify channel action
+     *
+     * @param bundle additional details to be handles to receiver of the broadcast
+     */
+    public void emit(@NonNull Bundle bundle) {
+        this.burst.dispatch(this.topic, bundle);
+    }
+
+    /**
+     * Emit/Notify typed event on channel action
+     *
+     * @param event event to be handled by listeners
+     * @param <T>   event type
+     */
+    public <T> void emit(@NonNull T event) {
+        this.burst.dispatch(this.topic, event);
+    }
+
+    /**
+     * Emit/Notify channel action and return once all listeners were invoked
+     * on the calling thread, regardless of their {@link ThreadMode}
+     *
+     * @param bundle additional details to be handles to receiver of the broadcast
+     */
+    public void emitSync(@NonNull Bundle bundle) {
+        this.burst.dispatchSync(this.topic, bundle);
+    }
+
+    /**
+     * Register a component to be able to receive channel broadcasts
+     *
+     * @param listener {@link LocalBurst.OnBroadcastListener}
+     * @return {@link Subscription}
+     */
+    @NonNull
+    public Subscription subscribe(@NonNull LocalBurst.OnBroadcastListener listener) {
+        return this.subscribe(Options.DEFAULT, listener);
+    }
+
+    /**
+     * Register a component to be able to receive channel broadcasts
+     *
+     * @param options  {@link Options}
+     * @param listener {@link LocalBurst.OnBroadcastListener}
+     * @return {@link Subscription}
+     */
+    @NonNull
+    public Subscription subscribe(
+            @NonNull Options options, @NonNull LocalBurst.OnBroadcastListener listener) {
+        return this.burst.register(this.topic, listener, null, options);
+    }
+
+    /**
+     * Register a component to be able to receive typed events emitted on channel
+     *
+     * @param type     event class
+     * @param listener {@link LocalBurst.OnEventListener}
+     * @param <T>      event type
+     * @return {@link Subscription}
+     */
+    @NonNull
+    public <T> Subscription subscribe(
+            @NonNull Class<T> type, @NonNull LocalBurst.OnEventListener<? super T> listener) {
+        return this.burst.register(this.topic, listener, type, Options.DEFAULT);
+    }
+
+    /**
+     * Check if channel has listeners
+     *
+     * @return whether channel action has listeners
+     */
+    public boolean hasListener() {
+        return this.burst.subscriptionsOf(this.topic).length > 0;
+    }
+
+    /**
+     * Clear channel listener(s)
+     */
+    public void removeListeners() {
+        this.topic.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "Channel{" + this.topic.id + ", " + this.topic.action + "}";
+    }
+}
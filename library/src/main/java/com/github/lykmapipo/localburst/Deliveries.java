@@ -0,0 +1,294 @@
+package com.github.lykmapipo.localburst;
+
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Listener invocations deferred to other threads while fanning out one
+ * emit or a batch of emits, so that each thread is handed over a single
+ * task which preserve emit order.
+ *
+ * @since 0.7.0
+ */
+final class Deliveries {
+    /**
+     * propagation state of emits being routed on current thread
+     */
+    static final ThreadLocal<Propagation> PROPAGATION = new ThreadLocal<Propagation>() {
+        @Override
+        protected Propagation initialValue() {
+            return new Propagation();
+        }
+    };
+
+    /**
+     * invocations deferred to main thread
+     */
+    @Nullable
+    Pending main;
+
+    /**
+     * invocations deferred to background thread
+     */
+    @Nullable
+    Pending background;
+
+    /**
+     * {@link LocalBurst} which failed listeners are reported to
+     */
+    private final LocalBurst burst;
+
+    /**
+     * {@link DispatchMonitor} or null
+     */
+    @Nullable
+    private final DispatchMonitor monitor;
+
+    Deliveries(@NonNull LocalBurst burst, @Nullable DispatchMonitor monitor) {
+        this.burst = burst;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Defer invocation to main thread
+     *
+     * @param subscription {@link Subscription}
+     * @param action       action name
+     * @param payload      extras {@link Bundle} or typed event
+     */
+    void main(
+            @NonNull Subscription subscription, @NonNull String action, @Nullable Object payload) {
+        if (this.main == null) {
+            this.main = new Pending(this.burst, this.monitor);
+        }
+        this.main.add(subscription, action, payload);
+    }
+
+    /**
+     * Defer invocation to background thread
+     *
+     * @param subscription {@link Subscription}
+     * @param action       action name
+     * @param payload      extras {@link Bundle} or typed event
+     */
+    void background(
+            @NonNull Subscription subscription, @NonNull String action, @Nullable Object payload) {
+        if (this.background == null) {
+            this.background = new Pending(this.burst, this.monitor);
+        }
+        this.background.add(subscription, action, payload);
+    }
+
+    /**
+     * Invoke subscription listener and report it to a {@link DispatchMonitor}
+     *
+     * @param burst        {@link LocalBurst} which failed listener is reported to
+     * @param subscription {@link Subscription}
+     * @param action       action name
+     * @param payload      extras {@link Bundle} or typed event
+     * @param monitor      {@link DispatchMonitor} or null
+     * @param queuedAt     {@link System#nanoTime()} when invocation was deferred,
+     *                     or zero when invoked inline
+     */
+    static void invoke(
+            @NonNull LocalBurst burst, @NonNull Subscription subscription,
+            @NonNull String action, @Nullable Object payload,
+            @Nullable DispatchMonitor monitor, long queuedAt) {
+        Object listener = monitor != null && subscription.active ? subscription.listener() : null;
+        if (listener == null) {
+            invoke(burst, subscription, action, payload);
+            return;
+        }
+
+        long start = System.nanoTime();
+        monitor.onInvokeStart(action, listener, queuedAt != 0 ? start - queuedAt : 0);
+        try {
+            invoke(burst, subscription, action, payload);
+        } finally {
+            monitor.onInvokeEnd(action, listener, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Invoke subscription listener if still active and payload match its type.
+     * <p>
+     * Errors thrown by listener are reported to owning {@link LocalBurst}
+     * instead of being propagated, so that remaining listeners are still invoked.
+     *
+     * @param burst        {@link LocalBurst} which failed listener is reported to
+     * @param subscription {@link Subscription}
+     * @param action       action name
+     * @param payload      extras {@link Bundle} or typed event
+     */
+    @SuppressWarnings("unchecked")
+    static void invoke(
+            @NonNull LocalBurst burst, @NonNull Subscription subscription,
+            @NonNull String action, @Nullable Object payload) {
+        //ignore removed subscription
+        if (!subscription.active) {
+            return;
+        }
+
+        //purge garbage collected weak listener
+        Object listener = subscription.listener();
+        if (listener == null) {
+            subscription.unsubscribe();
+            return;
+        }
+
+        try {
+            //notify extras listener
+            if (subscription.type == null) {
+                if (payload == null || payload instanceof Bundle) {
+                    Bundle shared = payload != null ? (Bundle) payload : Bundle.EMPTY;
+                    Bundle extras = subscription.options.copyExtras ? new Bundle(shared) : shared;
+                    ((LocalBurst.OnBroadcastListener) listener).onBroadcast(action, extras);
+                }
+            }
+
+            //notify typed event listener
+            else if (subscription.type.isInstance(payload)) {
+                ((LocalBurst.OnEventListener<Object>) listener).onEvent(payload);
+            }
+
+            subscription.succeed();
+        } catch (RuntimeException error) {
+            //isolate failed listener from remaining listeners
+            subscription.fail();
+            burst.report(action, listener, error);
+        }
+    }
+
+    /**
+     * Whether listener being invoked on current thread consumed its emit
+     */
+    static final class Propagation {
+        boolean consumed;
+    }
+
+    /**
+     * Ordered invocations to be run on a single thread.
+     * <p>
+     * Pooled events are retained when added and released once invoked.
+     */
+    static final class Pending implements Runnable {
+        private Subscription[] subscriptions = new Subscription[4];
+        private String[] actions = new String[4];
+        private Object[] payloads = new Object[4];
+        private int size;
+
+        /**
+         * {@link LocalBurst} which failed listeners are reported to
+         */
+        private final LocalBurst burst;
+
+        /**
+         * {@link DispatchMonitor} or null
+         */
+        @Nullable
+        private final DispatchMonitor monitor;
+
+        /**
+         * when each invocation was deferred, only tracked when monitored
+         */
+        @Nullable
+        private long[] queued;
+
+        /**
+         * action shared by all invocations, or null when mixed
+         */
+        @Nullable
+        private String action;
+
+        Pending(@NonNull LocalBurst burst, @Nullable DispatchMonitor monitor) {
+            this.burst = burst;
+            this.monitor = monitor;
+            this.queued = monitor != null ? new long[4] : null;
+        }
+
+        /**
+         * Add invocation
+         *
+         * @param subscription {@link Subscription}
+         * @param action       action name
+         * @param payload      extras {@link Bundle} or typed event
+         * @return {@link Pending}
+         */
+        @NonNull
+        Pending add(
+                @NonNull Subscription subscription,
+                @NonNull String action, @Nullable Object payload) {
+            if (this.size == this.subscriptions.length) {
+                int capacity = this.size * 2;
+                this.subscriptions = Arrays.copyOf(this.subscriptions, capacity);
+                this.actions = Arrays.copyOf(this.actions, capacity);
+                this.payloads = Arrays.copyOf(this.payloads, capacity);
+                if (this.queued != null) {
+                    this.queued = Arrays.copyOf(this.queued, capacity);
+                }
+            }
+            if (this.queued != null) {
+                this.queued[this.size] = System.nanoTime();
+            }
+            if (payload instanceof PooledEvent) {
+                ((PooledEvent) payload).retain();
+            }
+            if (this.size == 0) {
+                this.action = action;
+            } else if (this.action != null && !this.action.equals(action)) {
+                this.action = null;
+            }
+            this.subscriptions[this.size] = subscription;
+            this.actions[this.size] = action;
+            this.payloads[this.size] = payload;
+            this.size++;
+            return this;
+        }
+
+        /**
+         * Obtain action shared by all invocations
+         *
+         * @return action name, or null when invocations are of different actions
+         */
+        @Nullable
+        String action() {
+            return this.action;
+        }
+
+        /**
+         * Drop all invocations without running them, releasing pooled events
+         */
+        void discard() {
+            for (int i = 0; i < this.size; i++) {
+                Object payload = this.payloads[i];
+                if (payload instanceof PooledEvent) {
+                    ((PooledEvent) payload).release();
+                }
+            }
+            this.size = 0;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < this.size; i++) {
+                Object payload = this.payloads[i];
+                try {
+                    if (this.queued != null) {
+                        invoke(this.burst, this.subscriptions[i], this.actions[i], payload,
+                                this.monitor, this.queued[i]);
+                    } else {
+                        invoke(this.burst, this.subscriptions[i], this.actions[i], payload);
+                    }
+                } finally {
+                    if (payload instanceof PooledEvent) {
+                        ((PooledEvent) payload).release();
+                    }
+                }
+            }
+        }
+    }
+}
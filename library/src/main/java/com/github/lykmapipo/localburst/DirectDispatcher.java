@@ -0,0 +1,48 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * In-process {@link Dispatcher} which route emitted action straight to
+ * action listeners without {@link android.content.Intent} allocation,
+ * {@link android.content.IntentFilter} matching or extra Handler message.
+ * <p>
+ * Listeners are invoked on the emitting thread or handed over to their
+ * {@link ThreadMode} thread.
+ *
+ * @since 0.7.0
+ */
+final class DirectDispatcher extends Dispatcher {
+
+    DirectDispatcher(@NonNull LocalBurst burst) {
+        super(burst);
+    }
+
+    @Override
+    void emit(@NonNull String action, @Nullable Object payload) {
+        this.burst.deliver(action, payload, false);
+    }
+
+    @Override
+    void emit(@NonNull Registry.Topic topic, @Nullable Object payload) {
+        this.burst.deliver(topic, payload, false);
+    }
+
+    @Override
+    void emitSync(@NonNull Registry.Topic topic, @Nullable Object payload) {
+        this.burst.deliver(topic, payload, true);
+    }
+
+    @Override
+    void emitBatch(@NonNull List<Event> events) {
+        this.burst.deliver(events, false);
+    }
+
+    @Override
+    void emitSync(@NonNull String action, @Nullable Object payload) {
+        this.burst.deliver(action, payload, true);
+    }
+}
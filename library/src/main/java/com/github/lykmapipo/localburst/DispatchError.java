@@ -0,0 +1,59 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Typed event emitted on its own type channel when a listener throw while
+ * handling an action, and no {@link LocalBurst.OnErrorListener} is set.
+ * <p>
+ * Subscribe to it using {@link LocalBurst#subscribe(Class, LocalBurst.OnEventListener)}.
+ *
+ * @since 0.7.0
+ */
+public final class DispatchError {
+    private final String action;
+    private final Object listener;
+    private final RuntimeException error;
+
+    DispatchError(
+            @NonNull String action, @NonNull Object listener, @NonNull RuntimeException error) {
+        this.action = action;
+        this.listener = listener;
+        this.error = error;
+    }
+
+    /**
+     * Obtain action which was being handled
+     *
+     * @return action name
+     */
+    @NonNull
+    public String getAction() {
+        return this.action;
+    }
+
+    /**
+     * Obtain failed listener
+     *
+     * @return {@link LocalBurst.OnBroadcastListener} or {@link LocalBurst.OnEventListener}
+     */
+    @NonNull
+    public Object getListener() {
+        return this.listener;
+    }
+
+    /**
+     * Obtain thrown error
+     *
+     * @return error
+     */
+    @NonNull
+    public RuntimeException getError() {
+        return this.error;
+    }
+
+    @Override
+    public String toString() {
+        return "DispatchError{action=" + this.action + ", error=" + this.error + "}";
+    }
+}
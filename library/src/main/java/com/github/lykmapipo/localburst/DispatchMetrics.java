@@ -0,0 +1,193 @@
+package com.github.lykmapipo.localburst;
+
+import android.os.Trace;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link DispatchMonitor} which record per action emit counts, fan-out and
+ * queue latency, and per listener execution time in {@link Histogram}(s).
+ * <p>
+ * Listeners are grouped by their class name, so that metrics do not retain
+ * listeners. Optionally, each listener invocation is wrapped in an
+ * {@link Trace} section to be inspected with systrace.
+ *
+ * @since 0.7.0
+ */
+public final class DispatchMetrics implements DispatchMonitor {
+    /**
+     * maximum length of a trace section name
+     */
+    private static final int MAX_SECTION_LENGTH = 127;
+
+    /**
+     * whether to wrap listener invocations in trace sections
+     */
+    private final boolean tracing;
+
+    /**
+     * per action metrics
+     */
+    private final ConcurrentHashMap<String, Action> actions =
+            new ConcurrentHashMap<String, Action>();
+
+    /**
+     * per listener class execution time
+     */
+    private final ConcurrentHashMap<String, Histogram> listeners =
+            new ConcurrentHashMap<String, Histogram>();
+
+    /**
+     * Construct metrics without tracing
+     */
+    public DispatchMetrics() {
+        this(false);
+    }
+
+    /**
+     * Construct metrics
+     *
+     * @param tracing whether to wrap listener invocations in {@link Trace} sections
+     */
+    public DispatchMetrics(boolean tracing) {
+        this.tracing = tracing;
+    }
+
+    @Override
+    public void onEmit(@NonNull String action, int fanOut) {
+        Action metrics = this.actionOf(action);
+        metrics.emits.incrementAndGet();
+        metrics.fanOut.record(fanOut);
+    }
+
+    @Override
+    public void onInvokeStart(@NonNull String action, @NonNull Object listener, long queuedNanos) {
+        this.actionOf(action).queueLatency.record(queuedNanos);
+        if (this.tracing) {
+            String section = action + " " + listener.getClass().getName();
+            Trace.beginSection(section.length() > MAX_SECTION_LENGTH
+                    ? section.substring(0, MAX_SECTION_LENGTH) : section);
+        }
+    }
+
+    @Override
+    public void onInvokeEnd(@NonNull String action, @NonNull Object listener, long executionNanos) {
+        if (this.tracing) {
+            Trace.endSection();
+        }
+        String name = listener.getClass().getName();
+        Histogram histogram = this.listeners.get(name);
+        if (histogram == null) {
+            Histogram created = new Histogram();
+            histogram = this.listeners.putIfAbsent(name, created);
+            if (histogram == null) {
+                histogram = created;
+            }
+        }
+        histogram.record(executionNanos);
+    }
+
+    /**
+     * Obtain metrics of an action
+     *
+     * @param action action name
+     * @return {@link Action} metrics or null if action was never emitted
+     */
+    @Nullable
+    public Action getAction(@NonNull String action) {
+        return this.actions.get(action);
+    }
+
+    /**
+     * Obtain metrics of all emitted actions
+     *
+     * @return {@link Action} metrics per action name
+     */
+    @NonNull
+    public Map<String, Action> getActions() {
+        return Collections.unmodifiableMap(this.actions);
+    }
+
+    /**
+     * Obtain execution time, in nanoseconds, of all invoked listeners
+     *
+     * @return execution time {@link Histogram} per listener class name
+     */
+    @NonNull
+    public Map<String, Histogram> getListeners() {
+        return Collections.unmodifiableMap(this.listeners);
+    }
+
+    /**
+     * Clear all recorded metrics
+     */
+    public void reset() {
+        this.actions.clear();
+        this.listeners.clear();
+    }
+
+    @NonNull
+    private Action actionOf(@NonNull String action) {
+        Action metrics = this.actions.get(action);
+        if (metrics == null) {
+            Action created = new Action();
+            metrics = this.actions.putIfAbsent(action, created);
+            if (metrics == null) {
+                metrics = created;
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Metrics of a single action
+     */
+    public static final class Action {
+        private final AtomicLong emits = new AtomicLong();
+        private final Histogram fanOut = new Histogram();
+        private final Histogram queueLatency = new Histogram();
+
+        /**
+         * Obtain number of emits routed to listeners
+         *
+         * @return number of emits
+         */
+        public long getEmits() {
+            return this.emits.get();
+        }
+
+        /**
+         * Obtain number of subscriptions per emit
+         *
+         * @return fan-out {@link Histogram}
+         */
+        @NonNull
+        public Histogram getFanOut() {
+            return this.fanOut;
+        }
+
+        /**
+         * Obtain nanoseconds elapsed between routing an emit and invoking
+         * each listener, including thread hops
+         *
+         * @return queue latency {@link Histogram}
+         */
+        @NonNull
+        public Histogram getQueueLatency() {
+            return this.queueLatency;
+        }
+
+        @Override
+        public String toString() {
+            return "Action{emits=" + getEmits()
+                    + ", fanOut=" + fanOut
+                    + ", queueLatency=" + queueLatency + "}";
+        }
+    }
+}
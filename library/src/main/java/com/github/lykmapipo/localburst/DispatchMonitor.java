@@ -0,0 +1,45 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Receive dispatch events of a {@link LocalBurst}, used to collect metrics
+ * or trace dispatch.
+ * <p>
+ * Monitor callbacks are invoked on dispatching threads, possibly
+ * concurrently, hence implementations must be thread safe and cheap. When
+ * no monitor is set, dispatch does not read clocks nor invoke callbacks.
+ *
+ * @see DispatchMetrics
+ * @see LocalBurst#setMonitor(DispatchMonitor)
+ * @since 0.7.0
+ */
+public interface DispatchMonitor {
+    /**
+     * Invoked when an emitted action is about to be routed to its listeners
+     *
+     * @param action action name
+     * @param fanOut number of action subscriptions
+     */
+    void onEmit(@NonNull String action, int fanOut);
+
+    /**
+     * Invoked on listener thread right before a listener is invoked
+     *
+     * @param action      action name
+     * @param listener    {@link LocalBurst.OnBroadcastListener} or
+     *                    {@link LocalBurst.OnEventListener}
+     * @param queuedNanos nanoseconds elapsed since emit was routed to the listener
+     */
+    void onInvokeStart(@NonNull String action, @NonNull Object listener, long queuedNanos);
+
+    /**
+     * Invoked on listener thread right after a listener returned or thrown
+     *
+     * @param action         action name
+     * @param listener       {@link LocalBurst.OnBroadcastListener} or
+     *                       {@link LocalBurst.OnEventListener}
+     * @param executionNanos nanoseconds spent in listener
+     */
+    void onInvokeEnd(@NonNull String action, @NonNull Object listener, long executionNanos);
+}
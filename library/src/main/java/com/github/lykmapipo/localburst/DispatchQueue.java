@@ -0,0 +1,312 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+
+/**
+ * Bounded ring buffer of emits waiting for main thread, used instead of
+ * posting a Handler message per emit so that memory stays flat when
+ * producers outrun main looper.
+ * <p>
+ * Queued emits are drained in order by a single main Handler message,
+ * which is posted only when queue become non empty.
+ *
+ * @see LocalBurst#setQueue(int, Overflow)
+ * @since 0.7.0
+ */
+public final class DispatchQueue {
+    /**
+     * main thread {@link Schedulers}
+     */
+    private final Schedulers schedulers;
+
+    /**
+     * maximum number of queued emits
+     */
+    private final int capacity;
+
+    /**
+     * {@link Overflow} policy
+     */
+    private final Overflow overflow;
+
+    /**
+     * queued tasks, conflation keys and sequences, guarded by this
+     */
+    private final Runnable[] tasks;
+    private final String[] keys;
+    private final HashMap<String, Long> latest = new HashMap<String, Long>();
+    private long head;
+    private long tail;
+
+    /**
+     * whether a drain message is posted, guarded by this
+     */
+    private boolean scheduled;
+
+    /**
+     * metrics, guarded by this
+     */
+    private int maxDepth;
+    private long dropped;
+    private long conflated;
+
+    /**
+     * drain queued tasks on main thread
+     */
+    private final Runnable drain = new Runnable() {
+        @Override
+        public void run() {
+            drain(capacity);
+        }
+    };
+
+    DispatchQueue(@NonNull Schedulers schedulers, int capacity, @NonNull Overflow overflow) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.schedulers = schedulers;
+        this.capacity = capacity;
+        this.overflow = overflow;
+        this.tasks = new Runnable[capacity];
+        this.keys = new String[capacity];
+    }
+
+    /**
+     * Queue task to be run on main thread
+     *
+     * @param key  conflation key, such as action name, or null when task
+     *             can not be conflated
+     * @param task task to run
+     */
+    void offer(@Nullable String key, @NonNull Runnable task) {
+        Runnable discarded = null;
+        boolean post = false;
+
+        synchronized (this) {
+            //replace queued task of the same key
+            if (this.overflow == Overflow.CONFLATE && key != null) {
+                Long sequence = this.latest.get(key);
+                if (sequence != null && sequence >= this.head) {
+                    int slot = this.slotOf(sequence);
+                    discarded = this.tasks[slot];
+                    this.tasks[slot] = task;
+                    this.conflated++;
+                    task = null;
+                }
+            }
+
+            if (task != null && this.depth() == this.capacity) {
+                switch (this.overflow) {
+                    case BLOCK:
+                        //make room without waiting for main thread on main thread
+                        while (this.depth() == this.capacity && !this.schedulers.isMainThread()) {
+                            try {
+                                this.wait();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                discarded = task;
+                                this.dropped++;
+                                task = null;
+                                break;
+                            }
+                        }
+                        break;
+
+                    case DROP_NEWEST:
+                        discarded = task;
+                        this.dropped++;
+                        task = null;
+                        break;
+
+                    default:
+                        discarded = this.poll();
+                        this.dropped++;
+                        break;
+                }
+            }
+
+            if (task != null && this.depth() < this.capacity) {
+                this.push(key, task);
+                task = null;
+                if (!this.scheduled) {
+                    this.scheduled = true;
+                    post = true;
+                }
+            }
+        }
+
+        //deliver oldest inline when blocked on main thread
+        if (task != null) {
+            this.runNext();
+            this.offer(key, task);
+        }
+
+        if (discarded != null) {
+            discard(discarded);
+        }
+        if (post) {
+            this.schedulers.main.post(this.drain);
+        }
+    }
+
+    /**
+     * Run up to a given number of queued tasks, and post another drain
+     * message if tasks remain
+     *
+     * @param max maximum number of tasks to run
+     */
+    private void drain(int max) {
+        for (int i = 0; i < max; i++) {
+            if (!this.runNext()) {
+                break;
+            }
+        }
+        synchronized (this) {
+            if (this.depth() == 0) {
+                this.scheduled = false;
+                return;
+            }
+        }
+        //yield main looper before draining remaining tasks
+        this.schedulers.main.post(this.drain);
+    }
+
+    /**
+     * Run oldest queued task, if any, on calling thread
+     *
+     * @return whether a task was run
+     */
+    private boolean runNext() {
+        Runnable task;
+        synchronized (this) {
+            task = this.poll();
+            if (task == null) {
+                return false;
+            }
+            this.notifyAll();
+        }
+        task.run();
+        return true;
+    }
+
+    /**
+     * Discard all queued tasks
+     */
+    void clear() {
+        while (true) {
+            Runnable task;
+            synchronized (this) {
+                task = this.poll();
+                if (task == null) {
+                    this.notifyAll();
+                    return;
+                }
+            }
+            discard(task);
+        }
+    }
+
+    private void push(@Nullable String key, @NonNull Runnable task) {
+        int slot = this.slotOf(this.tail);
+        this.tasks[slot] = task;
+        this.keys[slot] = key;
+        if (key != null && this.overflow == Overflow.CONFLATE) {
+            this.latest.put(key, this.tail);
+        }
+        this.tail++;
+        this.maxDepth = Math.max(this.maxDepth, this.depth());
+    }
+
+    @Nullable
+    private Runnable poll() {
+        if (this.depth() == 0) {
+            return null;
+        }
+        int slot = this.slotOf(this.head);
+        Runnable task = this.tasks[slot];
+        String key = this.keys[slot];
+        if (key != null) {
+            Long sequence = this.latest.get(key);
+            if (sequence != null && sequence == this.head) {
+                this.latest.remove(key);
+            }
+        }
+        this.tasks[slot] = null;
+        this.keys[slot] = null;
+        this.head++;
+        return task;
+    }
+
+    private int depth() {
+        return (int) (this.tail - this.head);
+    }
+
+    private int slotOf(long sequence) {
+        return (int) (sequence % this.capacity);
+    }
+
+    private static void discard(@NonNull Runnable task) {
+        //release pooled events held by discarded deliveries
+        if (task instanceof Deliveries.Pending) {
+            ((Deliveries.Pending) task).discard();
+        }
+    }
+
+    /**
+     * Obtain maximum number of queued emits
+     *
+     * @return capacity
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Obtain {@link Overflow} policy
+     *
+     * @return {@link Overflow}
+     */
+    @NonNull
+    public Overflow getOverflow() {
+        return this.overflow;
+    }
+
+    /**
+     * Obtain number of currently queued emits
+     *
+     * @return queue depth
+     */
+    public synchronized int getDepth() {
+        return this.depth();
+    }
+
+    /**
+     * Obtain highest number of queued emits observed
+     *
+     * @return maximum queue depth
+     */
+    public synchronized int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    /**
+     * Obtain number of discarded emits
+     *
+     * @return dropped emits
+     */
+    public synchronized long getDropped() {
+        return this.dropped;
+    }
+
+    /**
+     * Obtain number of queued emits replaced by a later emit of the same action
+     *
+     * @return conflated emits
+     */
+    public synchronized long getConflated() {
+        return this.conflated;
+    }
+}
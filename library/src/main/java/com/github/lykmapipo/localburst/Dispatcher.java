@@ -0,0 +1,116 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Dispatch engine used by {@link LocalBurst} to route emitted actions
+ * to registered {@link LocalBurst.OnBroadcastListener}(s)
+ *
+ * @since 0.7.0
+ */
+abstract class Dispatcher {
+    /**
+     * owning {@link LocalBurst}
+     */
+    final LocalBurst burst;
+
+    /**
+     * Construct dispatcher for a given {@link LocalBurst}
+     *
+     * @param burst {@link LocalBurst}
+     */
+    Dispatcher(@NonNull LocalBurst burst) {
+        this.burst = burst;
+    }
+
+    /**
+     * Route emitted action and its payload to action listeners
+     *
+     * @param action  valid action name
+     * @param payload extras {@link android.os.Bundle} or typed event to be
+     *                handled by listeners
+     */
+    abstract void emit(@NonNull String action, @Nullable Object payload);
+
+    /**
+     * Route emitted action and its payload to action listeners and return
+     * only after all listeners were invoked on the calling thread
+     *
+     * @param action  valid action name
+     * @param payload extras {@link android.os.Bundle} or typed event to be
+     *                handled by listeners
+     */
+    abstract void emitSync(@NonNull String action, @Nullable Object payload);
+
+
+    /**
+     * Route emitted action of a resolved topic and its payload to action listeners
+     *
+     * @param topic   resolved action {@link Registry.Topic}
+     * @param payload extras {@link android.os.Bundle} or typed event to be
+     *                handled by listeners
+     */
+    void emit(@NonNull Registry.Topic topic, @Nullable Object payload) {
+        this.emit(topic.action, payload);
+    }
+
+    /**
+     * Route emitted action of a resolved topic and its payload to action
+     * listeners and return only after all listeners were invoked on the
+     * calling thread
+     *
+     * @param topic   resolved action {@link Registry.Topic}
+     * @param payload extras {@link android.os.Bundle} or typed event to be
+     *                handled by listeners
+     */
+    void emitSync(@NonNull Registry.Topic topic, @Nullable Object payload) {
+        this.emitSync(topic.action, payload);
+    }
+
+    /**
+     * Route a batch of emitted actions to action listeners in emit order
+     *
+     * @param events {@link Event}(s) with valid action names
+     */
+    void emitBatch(@NonNull List<Event> events) {
+        for (Event event : events) {
+            this.emit(event.action, event.payload);
+        }
+    }
+
+    /**
+     * Invoked when a given action gain its first subscription
+     *
+     * @param action valid action name
+     */
+    void subscribe(@NonNull String action) {
+    }
+
+    /**
+     * Invoked when a given action lose its last subscription
+     *
+     * @param action valid action name
+     */
+    void unsubscribe(@NonNull String action) {
+    }
+
+    /**
+     * Invoked when dispatcher is taking over dispatching of all actions
+     *
+     * @param actions actions with registered listeners
+     */
+    void attach(@NonNull Iterable<String> actions) {
+        for (String action : actions) {
+            this.subscribe(action);
+        }
+    }
+
+    /**
+     * Invoked when dispatcher is no longer in use and should release resources
+     */
+    void detach() {
+    }
+}
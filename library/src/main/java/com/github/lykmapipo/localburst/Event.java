@@ -0,0 +1,75 @@
+package com.github.lykmapipo.localburst;
+
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Action and its payload to be emitted as part of a batch
+ *
+ * @since 0.7.0
+ */
+public final class Event {
+    /**
+     * action name
+     */
+    final String action;
+
+    /**
+     * extras {@link Bundle} or typed event
+     */
+    @Nullable
+    final Object payload;
+
+    /**
+     * Construct event without extras
+     *
+     * @param action action name
+     */
+    public Event(@NonNull String action) {
+        this(action, null);
+    }
+
+    /**
+     * Construct event with extras or typed payload
+     *
+     * @param action  action name
+     * @param payload extras {@link Bundle} or typed event
+     */
+    public Event(@NonNull String action, @Nullable Object payload) {
+        this.action = action;
+        this.payload = payload;
+    }
+
+    /**
+     * Construct typed event emitted on its type channel
+     *
+     * @param type  event class
+     * @param event typed event
+     * @param <T>   event type
+     */
+    public <T> Event(@NonNull Class<T> type, @NonNull T event) {
+        this(type.getName(), event);
+    }
+
+    /**
+     * Obtain action name
+     *
+     * @return action name
+     */
+    @NonNull
+    public String getAction() {
+        return this.action;
+    }
+
+    /**
+     * Obtain extras {@link Bundle} or typed event
+     *
+     * @return payload
+     */
+    @Nullable
+    public Object getPayload() {
+        return this.payload;
+    }
+}
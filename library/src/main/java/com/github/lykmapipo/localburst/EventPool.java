@@ -0,0 +1,97 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+
+/**
+ * Bounded pool of {@link PooledEvent}(s)
+ *
+ * @param <T> event type
+ * @since 0.7.0
+ */
+public final class EventPool<T extends PooledEvent> {
+    /**
+     * pooled events
+     */
+    private final Object[] events;
+
+    /**
+     * number of pooled events
+     */
+    private int size;
+
+    /**
+     * {@link Factory} used when pool is empty
+     */
+    private final Factory<T> factory;
+
+    /**
+     * Construct pool
+     *
+     * @param capacity maximum number of events kept in the pool
+     * @param factory  {@link Factory} used to create events when pool is empty
+     */
+    public EventPool(@IntRange(from = 1) int capacity, @NonNull Factory<T> factory) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        this.events = new Object[capacity];
+        this.factory = factory;
+    }
+
+    /**
+     * Obtain pooled event or create new one when pool is empty
+     *
+     * @return event
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public T obtain() {
+        T event = null;
+        synchronized (this.events) {
+            if (this.size > 0) {
+                this.size--;
+                event = (T) this.events[this.size];
+                this.events[this.size] = null;
+            }
+        }
+        if (event == null) {
+            event = this.factory.create();
+        }
+        event.pool = this;
+        return event;
+    }
+
+    /**
+     * Reset and return event to the pool, dropping it when pool is full.
+     * <p>
+     * Only events obtained from this pool are linked to it, hence released
+     * events are always of pool type.
+     *
+     * @param event event obtained from this pool
+     */
+    void release(@NonNull PooledEvent event) {
+        event.reset();
+        synchronized (this.events) {
+            if (this.size < this.events.length) {
+                this.events[this.size] = event;
+                this.size++;
+            }
+        }
+    }
+
+    /**
+     * Create new pooled events
+     *
+     * @param <T> event type
+     */
+    public interface Factory<T extends PooledEvent> {
+        /**
+         * Create new event
+         *
+         * @return event
+         */
+        @NonNull
+        T create();
+    }
+}
@@ -0,0 +1,199 @@
+package com.github.lykmapipo.localburst;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Stateful {@link Policy} applied to emits of an action or a subscription.
+ * <p>
+ * Held payloads are released to a {@link Sink} from main thread once
+ * their policy allow them through.
+ *
+ * @since 0.7.0
+ */
+final class Gate implements Runnable {
+    /**
+     * Emit is allowed through immediately
+     */
+    static final int PASS = 0;
+
+    /**
+     * Emit is held by the gate and will be released later
+     */
+    static final int HELD = 1;
+
+    /**
+     * Emit is dropped by the gate
+     */
+    static final int DROPPED = 2;
+
+    /**
+     * applied {@link Policy}
+     */
+    final Policy policy;
+
+    /**
+     * {@link Sink} receiving held payloads
+     */
+    private final Sink sink;
+
+    /**
+     * main thread {@link Handler} used to time releases
+     */
+    private final Handler handler;
+
+    /**
+     * held action and payload
+     */
+    private String action;
+    private Object payload;
+    private boolean held;
+
+    /**
+     * whether release is scheduled
+     */
+    private boolean scheduled;
+
+    /**
+     * time of last emit and start of current window
+     */
+    private long lastEmitAt;
+    private long windowStartAt;
+    private boolean windowStarted;
+
+    Gate(@NonNull Policy policy, @NonNull Sink sink) {
+        this.policy = policy;
+        this.sink = sink;
+        this.handler = new Handler(Looper.getMainLooper());
+    }
+
+    /**
+     * Offer emitted payload to the gate
+     *
+     * @param action  action name
+     * @param payload extras {@link android.os.Bundle} or typed event
+     * @return {@link #PASS}, {@link #HELD} or {@link #DROPPED}
+     */
+    int offer(@NonNull String action, @Nullable Object payload) {
+        long now = SystemClock.uptimeMillis();
+        long delay;
+        synchronized (this) {
+            switch (this.policy.kind) {
+                case THROTTLE_FIRST:
+                    if (!this.windowStarted || now - this.windowStartAt >= this.policy.window) {
+                        this.windowStarted = true;
+                        this.windowStartAt = now;
+                        return PASS;
+                    }
+                    return DROPPED;
+
+                case LATEST:
+                    delay = 0;
+                    break;
+
+                case DEBOUNCE:
+                    this.lastEmitAt = now;
+                    delay = this.policy.window;
+                    break;
+
+                case SAMPLE:
+                default:
+                    delay = this.policy.window;
+                    break;
+            }
+
+            this.hold(action, payload);
+            if (this.scheduled) {
+                return HELD;
+            }
+            this.scheduled = true;
+        }
+
+        //schedule release outside the lock
+        this.handler.postDelayed(this, delay);
+        return HELD;
+    }
+
+    @Override
+    public void run() {
+        String action;
+        Object payload;
+        synchronized (this) {
+            //wait for quiet window
+            if (this.policy.kind == Policy.Kind.DEBOUNCE) {
+                long remaining = this.lastEmitAt + this.policy.window - SystemClock.uptimeMillis();
+                if (remaining > 0) {
+                    this.handler.postDelayed(this, remaining);
+                    return;
+                }
+            }
+
+            this.scheduled = false;
+            if (!this.held) {
+                return;
+            }
+            action = this.action;
+            payload = this.payload;
+            this.action = null;
+            this.payload = null;
+            this.held = false;
+        }
+
+        try {
+            this.sink.release(action, payload);
+        } finally {
+            if (payload instanceof PooledEvent) {
+                ((PooledEvent) payload).release();
+            }
+        }
+    }
+
+    /**
+     * Drop held payload
+     */
+    void clear() {
+        Object payload;
+        synchronized (this) {
+            payload = this.payload;
+            this.action = null;
+            this.payload = null;
+            this.held = false;
+        }
+        if (payload instanceof PooledEvent) {
+            ((PooledEvent) payload).release();
+        }
+    }
+
+    /**
+     * Hold payload, superseding previously held one
+     */
+    private void hold(@NonNull String action, @Nullable Object payload) {
+        if (payload instanceof PooledEvent) {
+            ((PooledEvent) payload).retain();
+        }
+        Object superseded = this.held ? this.payload : null;
+        this.action = action;
+        this.payload = payload;
+        this.held = true;
+        if (superseded instanceof PooledEvent) {
+            ((PooledEvent) superseded).release();
+        }
+    }
+
+    /**
+     * Receive payloads released by a {@link Gate}
+     */
+    interface Sink {
+        /**
+         * Deliver released payload
+         *
+         * @param action  action name
+         * @param payload extras {@link android.os.Bundle} or typed event
+         */
+        void release(@NonNull String action, @Nullable Object payload);
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.lykmapipo.localburst;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free histogram of non negative values, such as nanoseconds or
+ * counts, with log-linear buckets.
+ * <p>
+ * Like HDR histograms, each power of two range is split into 32 linear
+ * buckets, so recorded values are kept within ~3% precision over the
+ * whole long range with a fixed footprint.
+ *
+ * @since 0.7.0
+ */
+public final class Histogram {
+    /**
+     * number of bits used to index linear buckets within a power of two range
+     */
+    private static final int SUB_BUCKET_BITS = 6;
+
+    /**
+     * half number of linear buckets within a power of two range
+     */
+    private static final int SUB_BUCKET_HALF = 1 << (SUB_BUCKET_BITS - 1);
+
+    /**
+     * total number of buckets to cover long range
+     */
+    private static final int BUCKETS = indexOf(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a value, negative values are recorded as zero
+     *
+     * @param value value to record
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        this.counts.incrementAndGet(indexOf(value));
+        this.count.incrementAndGet();
+        this.total.addAndGet(value);
+
+        long current = this.max.get();
+        while (value > current && !this.max.compareAndSet(current, value)) {
+            current = this.max.get();
+        }
+    }
+
+    /**
+     * Obtain number of recorded values
+     *
+     * @return number of recorded values
+     */
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * Obtain largest recorded value
+     *
+     * @return largest recorded value or zero
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Obtain mean of recorded values
+     *
+     * @return mean or zero when nothing was recorded
+     */
+    public double getMean() {
+        long count = this.count.get();
+        return count == 0 ? 0 : this.total.get() / (double) count;
+    }
+
+    /**
+     * Obtain value at a given percentile of recorded values
+     *
+     * @param percentile percentile, between 0 and 100
+     * @return highest value of the bucket containing the percentile, or zero
+     * when nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = this.count.get();
+        if (count == 0) {
+            return 0;
+        }
+        double clamped = Math.min(100, Math.max(0, percentile));
+        long rank = Math.max(1, (long) Math.ceil(clamped / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts.get(i);
+            if (seen >= rank) {
+                long highest = i + 1 < BUCKETS ? valueOf(i + 1) - 1 : Long.MAX_VALUE;
+                return Math.min(highest, this.max.get());
+            }
+        }
+        return this.max.get();
+    }
+
+    /**
+     * Clear all recorded values
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts.set(i, 0);
+        }
+        this.count.set(0);
+        this.total.set(0);
+        this.max.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "Histogram{count=" + getCount()
+                + ", mean=" + (long) getMean()
+                + ", p50=" + getValueAtPercentile(50)
+                + ", p99=" + getValueAtPercentile(99)
+                + ", max=" + getMax() + "}";
+    }
+
+    /**
+     * Obtain bucket index of a value
+     *
+     * @param value non negative value
+     * @return bucket index
+     */
+    private static int indexOf(long value) {
+        if (value < (SUB_BUCKET_HALF << 1)) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return shift * SUB_BUCKET_HALF + (int) (value >>> shift);
+    }
+
+    /**
+     * Obtain lowest value of a bucket
+     *
+     * @param index bucket index
+     * @return lowest bucket value
+     */
+    private static long valueOf(int index) {
+        if (index < (SUB_BUCKET_HALF << 1)) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF - 1;
+        return (long) (index - shift * SUB_BUCKET_HALF) << shift;
+    }
+}
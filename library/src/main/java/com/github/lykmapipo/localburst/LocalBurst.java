@@ -3,12 +3,15 @@ package com.github.lykmapipo.localburst;
 import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
-import android.content.IntentFilter;
 import android.os.Bundle;
+import android.os.Looper;
+import android.util.Log;
 
 import androidx.annotation.MainThread;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
 import androidx.lifecycle.LifecycleOwner;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.Observer;
@@ -17,9 +20,21 @@ import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 import com.github.lykmapipo.common.Common;
 import com.github.lykmapipo.common.provider.Provider;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Simple Local Broadcast(s) on top of {@link LocalBroadcastManager}
@@ -32,10 +47,15 @@ public final class LocalBurst extends BroadcastReceiver {
      */
     public static final String DEFAULT_ACTION = "Default";
 
+    /**
+     * log tag
+     */
+    private static final String TAG = LocalBurst.class.getSimpleName();
+
     /**
      * class instance
      */
-    private static LocalBurst instance;
+    private static volatile LocalBurst instance;
 
     /**
      * local reference for application {@link Provider}
@@ -47,11 +67,101 @@ public final class LocalBurst extends BroadcastReceiver {
      */
     private LocalBroadcastManager localBroadcastManager;
 
+    /**
+     * current {@link Mode} used to dispatch actions, {@link Mode#DIRECT} by
+     * default since 0.7.0
+     */
+    private volatile Mode mode = Mode.DIRECT;
+
+    /**
+     * current {@link Dispatcher} used to dispatch actions
+     */
+    private volatile Dispatcher dispatcher;
+
+    /**
+     * number of threads currently collecting a batch
+     */
+    private final AtomicInteger batching = new AtomicInteger();
+
+    /**
+     * per thread {@link Batch}
+     */
+    private final ThreadLocal<Batch> batch = new ThreadLocal<Batch>() {
+        @Override
+        protected Batch initialValue() {
+            return new Batch();
+        }
+    };
+
+    /**
+     * {@link Gate.Sink} dispatching payloads released by action policies
+     */
+    private final Gate.Sink release = (action, payload) -> dispatcher.emit(action, payload);
+
+    /**
+     * threads used to deliver actions based on listener {@link ThreadMode}
+     */
+    private final Schedulers schedulers = new Schedulers();
+
+    /**
+     * latest sticky payload per action
+     */
+    private final Sticky sticky = new Sticky(Sticky.DEFAULT_CAPACITY);
+
+    /**
+     * shared {@link LiveData} per observed action or type, accessed on main
+     * thread only and released once their last observer is removed
+     */
+    final Map<String, BurstLiveData<?>> liveData = new HashMap<String, BurstLiveData<?>>();
+
+    /**
+     * timing wheel of delayed and periodic emits
+     */
+    private final TimingWheel timer = new TimingWheel(this);
+
+    /**
+     * {@link DispatchMonitor} or null when dispatch is not monitored
+     */
+    @Nullable
+    private volatile DispatchMonitor monitor;
+
+    /**
+     * bounded {@link DispatchQueue} or null to post each main thread hop
+     */
+    @Nullable
+    private volatile DispatchQueue queue;
+
+    /**
+     * {@link OnErrorListener} or null to emit {@link DispatchError}(s)
+     */
+    @Nullable
+    private volatile OnErrorListener errorHandler;
+
+    /**
+     * added {@link SubscriberIndex}(s), replaced on write
+     */
+    private volatile SubscriberIndex[] indexes = new SubscriberIndex[0];
+
+    /**
+     * subscriptions of registered subscribers, guarded by itself
+     */
+    private final IdentityHashMap<Object, List<Subscription>> registered =
+            new IdentityHashMap<Object, List<Subscription>>();
+
     /**
      * local {@link OnBroadcastListener} references
      */
-    private HashMap<String, Set<OnBroadcastListener>> listeners =
-            new HashMap<String, Set<OnBroadcastListener>>();
+    private final Registry listeners = new Registry(new Registry.Callback() {
+        @Override
+        public void onActive(@NonNull String action) {
+            dispatcher.subscribe(action);
+        }
+
+        @Override
+        public void onInactive(@NonNull String action) {
+            dispatcher.unsubscribe(action);
+        }
+    });
 
 
     /**
@@ -65,6 +175,7 @@ public final class LocalBurst extends BroadcastReceiver {
         Context context = this.appProvider.getApplicationContext();
         this.localBroadcastManager =
                 LocalBroadcastManager.getInstance(context);
+        this.dispatcher = createDispatcher(this.mode);
     }
 
     /**
@@ -88,7 +199,7 @@ public final class LocalBurst extends BroadcastReceiver {
      * @return {@link LocalBurst}
      */
     @Nullable
-    public static synchronized LocalBurst getInstance() {
+    public static LocalBurst getInstance() {
         return instance;
     }
 
@@ -98,7 +209,7 @@ public final class LocalBurst extends BroadcastReceiver {
      *
      * @param action action name
      */
-    public static synchronized void $emit(@NonNull String action) {
+    public static void $emit(@NonNull String action) {
         LocalBurst instance = LocalBurst.getInstance();
         if (instance != null) {
             instance.emit(action);
@@ -111,7 +222,7 @@ public final class LocalBurst extends BroadcastReceiver {
      * @param action action name
      * @param bundle additional details to be handles to receiver of the broadcast
      */
-    public static synchronized void $emit(@NonNull String action, @NonNull Bundle bundle) {
+    public static void $emit(@NonNull String action, @NonNull Bundle bundle) {
         LocalBurst instance = LocalBurst.getInstance();
         if (instance != null) {
             instance.emit(action, bundle);
@@ -119,354 +230,2565 @@ public final class LocalBurst extends BroadcastReceiver {
     }
 
     /**
-     * Emit/Notify about default action
+     * Emit/Notify about specific action, building its extras only when
+     * the action has listeners
      *
-     * @param bundle additional details to be handles to receiver of the broadcast
+     * @param action   action name
+     * @param supplier {@link Supplier} of additional details
+     * @since 0.7.0
      */
-    public static synchronized void $emit(@NonNull Bundle bundle) {
+    public static void $emit(@NonNull String action, @NonNull Supplier<Bundle> supplier) {
         LocalBurst instance = LocalBurst.getInstance();
         if (instance != null) {
-            instance.emit(bundle);
+            instance.emit(action, supplier);
         }
     }
 
     /**
-     * Register a component to be able to receive action broadcasts
+     * Emit/Notify about specific action of a keyed entity, delivering
+     * emits of the same key in order
      *
-     * @param listener {@link OnBroadcastListener}
-     * @param actions  {@link String}
+     * @param action action name
+     * @param key    entity key, such as order id
+     * @param bundle additional details to be handles to receiver of the broadcast
+     * @since 0.7.0
      */
-    public static synchronized void $on(@NonNull OnBroadcastListener listener, @NonNull String... actions) {
+    public static void $emit(@NonNull String action, @NonNull Object key, @NonNull Bundle bundle) {
         LocalBurst instance = LocalBurst.getInstance();
         if (instance != null) {
-            instance.on(listener, actions);
+            instance.emit(action, key, bundle);
         }
     }
 
     /**
-     * Clear action listener(s)
+     * Emit/Notify about default action
      *
-     * @param actions {@link String}
+     * @param bundle additional details to be handles to receiver of the broadcast
      */
-    public static synchronized void $removeListeners(String... actions) {
+    public static void $emit(@NonNull Bundle bundle) {
         LocalBurst instance = LocalBurst.getInstance();
         if (instance != null) {
-            instance.removeListeners(actions);
+            instance.emit(bundle);
         }
     }
 
     /**
-     * Register a component to be able to receive action broadcasts
+     * Emit/Notify typed event on its type channel
      *
-     * @param action    {@link String}
-     * @param listeners {@link OnBroadcastListener}
-     * @since 0.6.0
+     * @param type  event class
+     * @param event event to be handled by listeners
+     * @param <T>   event type
+     * @since 0.7.0
      */
-    public static synchronized void $on(@NonNull String action, @NonNull OnBroadcastListener... listeners) {
+    public static <T> void $emit(@NonNull Class<T> type, @NonNull T event) {
         LocalBurst instance = LocalBurst.getInstance();
         if (instance != null) {
-            instance.on(action, listeners);
+            instance.emit(type, event);
         }
     }
 
     /**
-     * Clear action listener(s)
+     * Emit/Notify about specific action, and keep its extras for listeners
+     * registered later
      *
-     * @param listeners {@link OnBroadcastListener}
-     * @since 0.6.0
+     * @param action action name
+     * @param bundle additional details to be handles to receiver of the broadcast
+     * @since 0.7.0
      */
-    public static synchronized void $removeListeners(OnBroadcastListener... listeners) {
+    public static void $emitSticky(@NonNull String action, @NonNull Bundle bundle) {
         LocalBurst instance = LocalBurst.getInstance();
         if (instance != null) {
-            instance.removeListeners(listeners);
+            instance.emitSticky(action, bundle);
         }
     }
 
     /**
-     * Listen for broadcasts on default action
+     * Emit/Notify typed event on its type channel, and keep it for
+     * listeners registered later
      *
-     * @param owner    The LifecycleOwner which controls the observer
-     * @param observer The observer that will receive the network status
-     * @since 0.6.0
+     * @param type  event class
+     * @param event event to be handled by listeners
+     * @param <T>   event type
+     * @since 0.7.0
      */
-    @MainThread
-    public static synchronized void observe(
-            @NonNull LifecycleOwner owner, @NonNull Observer<Bundle> observer) {
-        observe(owner, DEFAULT_ACTION, observer);
+    public static <T> void $emitSticky(@NonNull Class<T> type, @NonNull T event) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.emitSticky(type, event);
+        }
     }
 
     /**
-     * Listen for broadcasted actions
+     * Stop broadcast being handled by calling listener from reaching lower
+     * priority listeners
      *
-     * @param owner    The LifecycleOwner which controls the observer
-     * @param action   valid action to observe
-     * @param observer The observer that will receive the network status
-     * @since 0.6.0
+     * @see #consume()
+     * @since 0.7.0
      */
-    @MainThread
-    public static synchronized void observe(
-            @NonNull LifecycleOwner owner, @NonNull String action,
-            @NonNull Observer<Bundle> observer) {
-        LocalBroadcastLiveData broadcast = new LocalBroadcastLiveData(action);
-        broadcast.observe(owner, observer);
+    public static void $consume() {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.consume();
+        }
     }
 
-    @Override
-    public void onReceive(Context context, Intent intent) {
-        //obtain broadcast action
-        String action = Common.Strings.valueOr(intent.getAction(), DEFAULT_ACTION);
-
-        //obtain action listeners
-        if (this.listeners != null && !this.listeners.isEmpty()) {
-            //obtain specific action broadcast listeners
-            Set<OnBroadcastListener> listeners = this.listeners.get(action);
-
-            //obtain action listener refs
-            if (listeners != null && !listeners.isEmpty()) {
-
-                //notify all action listeners
-                for (OnBroadcastListener listener : listeners) {
-                    Bundle extras = Common.Bundles.from(intent.getExtras());
-                    listener.onBroadcast(action, extras);
-                }
-
-            }
+    /**
+     * Remove latest sticky extras of an action
+     *
+     * @param action action name
+     * @since 0.7.0
+     */
+    public static void $removeSticky(@NonNull String action) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.removeSticky(action);
         }
-
     }
 
     /**
-     * Register a component to be able to receive action broadcasts
+     * Remove all sticky extras and typed events
      *
-     * @param action    {@link String}
-     * @param listeners {@link OnBroadcastListener}
+     * @since 0.7.0
      */
-    public void on(@NonNull String action, @NonNull OnBroadcastListener... listeners) {
-
-        if (isValidAction(action)) {
-            //register broadcast receiver
-            this.localBroadcastManager.registerReceiver(this, new IntentFilter(action));
-
-            //register {@link OnReceiveBroadcastListener}
-            Set<OnBroadcastListener> _listeners = Common.Value.setOf(listeners);
-
-            //get action broadcast listeners
-            Set<OnBroadcastListener> broadcastListeners = this.listeners.get(action);
-
-            if (broadcastListeners == null) {
-                this.listeners.put(action, _listeners);
-            } else {
-                broadcastListeners.addAll(_listeners);
-            }
+    public static void $clearSticky() {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.clearSticky();
         }
-
     }
 
     /**
-     * Register a component to be able to receive action broadcasts
+     * Emit/Notify about specific action and return once all listeners
+     * were invoked on the calling thread
      *
-     * @param listener {@link OnBroadcastListener}
-     * @param actions  {@link String}
+     * @param action action name
+     * @since 0.7.0
      */
-    public void on(@NonNull OnBroadcastListener listener, @NonNull String... actions) {
-        //prepare action set
-        Set<String> _actions = Common.Value.setOf(actions);
-
-        //register broadcast listener
-        for (String action : _actions) {
-            if (isValidAction(action)) {
-                this.on(action, listener);
-            }
+    public static void $emitSync(@NonNull String action) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.emitSync(action);
         }
-
     }
 
     /**
-     * Emit/Notify about specific action
+     * Emit/Notify about specific action and return once all listeners
+     * were invoked on the calling thread
      *
      * @param action action name
      * @param bundle additional details to be handles to receiver of the broadcast
+     * @since 0.7.0
      */
-    public void emit(@NonNull String action, @NonNull Bundle bundle) {
-        if (isValidAction(action)) {
-            Intent intent = new Intent(action);
-            intent.putExtras(bundle);
-            this.localBroadcastManager.sendBroadcast(intent);
+    public static void $emitSync(@NonNull String action, @NonNull Bundle bundle) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.emitSync(action, bundle);
         }
     }
 
     /**
-     * Emit/Notify about default action
+     * Emit/Notify typed event on its type channel and return once all
+     * listeners were invoked on the calling thread
      *
-     * @param bundle additional details to be handles to receiver of the broadcast
+     * @param type  event class
+     * @param event event to be handled by listeners
+     * @param <T>   event type
+     * @since 0.7.0
      */
-    public void emit(@NonNull Bundle bundle) {
-        if (isValidAction(DEFAULT_ACTION)) {
-            Intent intent = new Intent(DEFAULT_ACTION);
-            intent.putExtras(bundle);
-            this.localBroadcastManager.sendBroadcast(intent);
+    public static <T> void $emitSync(@NonNull Class<T> type, @NonNull T event) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.emitSync(type, event);
         }
     }
 
     /**
-     * Emit/Notify about specific action
+     * Emit/Notify about specific action after a delay
      *
      * @param action action name
+     * @param bundle additional details to be handles to receiver of the broadcast
+     * @param delay  time until emit
+     * @param unit   {@link TimeUnit} of delay
+     * @return {@link Scheduled} or null when there is no instance
+     * @since 0.7.0
      */
-    public void emit(@NonNull String action) {
-        if (isValidAction(action)) {
-            Intent intent = new Intent(action);
-            this.localBroadcastManager.sendBroadcast(intent);
+    @Nullable
+    public static Scheduled $emitDelayed(
+            @NonNull String action, @NonNull Bundle bundle, long delay, @NonNull TimeUnit unit) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            return instance.emitDelayed(action, bundle, delay, unit);
         }
+        return null;
     }
 
     /**
-     * Clear action listener(s)
+     * Emit/Notify about specific action repeatedly at a fixed rate
      *
-     * @param actions {@link String}
+     * @param action       action name
+     * @param bundle       additional details to be handles to receiver of the broadcast
+     * @param initialDelay time until first emit
+     * @param period       time between emits
+     * @param unit         {@link TimeUnit} of initial delay and period
+     * @return {@link Scheduled} or null when there is no instance
+     * @since 0.7.0
      */
-    public void removeListeners(String... actions) {
-        Set<String> _actions = Common.Value.setOf(actions);
-        for (String action : _actions) {
-            if (isValidAction(action)) {
-                this.listeners.remove(action);
-            }
+    @Nullable
+    public static Scheduled $emitAtFixedRate(
+            @NonNull String action, @NonNull Bundle bundle,
+            long initialDelay, long period, @NonNull TimeUnit unit) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            return instance.emitAtFixedRate(action, bundle, initialDelay, period, unit);
         }
+        return null;
     }
 
-
     /**
-     * Clear action listener(s)
+     * Emit/Notify a batch of actions in a single dispatch pass
      *
-     * @param listeners {@link OnBroadcastListener}
+     * @param events {@link Event}(s)
+     * @since 0.7.0
      */
-    public void removeListeners(OnBroadcastListener... listeners) {
-        Set<OnBroadcastListener> _listeners = Common.Value.setOf(listeners);
-
-        if (!_listeners.isEmpty()) {
-
-            Collection<Set<OnBroadcastListener>> _broadcastListeners = this.listeners.values();
-
-            for (Set<OnBroadcastListener> broadcastListeners : _broadcastListeners) {
-                broadcastListeners.removeAll(_listeners);
-            }
+    public static void $emitBatch(@NonNull Collection<Event> events) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.emitBatch(events);
         }
     }
 
-
     /**
-     * Remove all listeners and release resources
+     * Start collecting actions emitted on the calling thread into a batch
+     *
+     * @since 0.7.0
      */
-    public void removeAllListeners() {
-        //clear listeners
-        this.dispose();
+    public static void $beginBatch() {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.beginBatch();
+        }
     }
 
-
     /**
-     * Clear listeners and release resources
+     * Stop collecting actions emitted on the calling thread and emit them
+     *
+     * @since 0.7.0
      */
-    public void dispose() {
-        //clear listeners
-        boolean hasListeners = this.listeners != null;
-        if (hasListeners) {
-            this.listeners.clear();
+    public static void $endBatch() {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.endBatch();
         }
-        // TODO: clear refs
     }
 
-
     /**
-     * Check is specified listener exist in set of listeners
+     * Change rate limiting policy applied to all emits of an action
      *
-     * @param listeners {@link OnBroadcastListener}
-     * @return {@link Boolean}
+     * @param action action name
+     * @param policy {@link Policy} or null to remove current policy
+     * @since 0.7.0
      */
-    public boolean hasListener(OnBroadcastListener... listeners) {
-        boolean hasListener = false;
-
-        Set<OnBroadcastListener> _listeners = Common.Value.setOf(listeners);
-        Collection<Set<OnBroadcastListener>> _broadcastListeners = this.listeners.values();
-
-        for (Set<OnBroadcastListener> broadcastListeners : _broadcastListeners) {
-            hasListener = broadcastListeners.containsAll(_listeners);
-            if (hasListener) {
-                break;
-            }
+    public static void $setPolicy(@NonNull String action, @Nullable Policy policy) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.setPolicy(action, policy);
         }
-
-        return hasListener;
     }
 
-
     /**
-     * Check if specified action has a set of listeners already registered
+     * Register a component to be able to receive action broadcasts
      *
-     * @param action {@link String}
+     * @param listener {@link OnBroadcastListener}
+     * @param actions  {@link String}
      */
-    public boolean hasListener(String action) {
-        boolean hasListener = false;
-
-        if (isValidAction(action)) {
-            Set<OnBroadcastListener> onBroadcastListeners = this.listeners.get(action);
-            hasListener = onBroadcastListeners != null && !onBroadcastListeners.isEmpty();
+    public static void $on(@NonNull OnBroadcastListener listener, @NonNull String... actions) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.on(listener, actions);
         }
-
-        return hasListener;
     }
 
-
     /**
-     * Ensure action is not null or empty
+     * Clear action listener(s)
      *
-     * @param action action name
-     * @return whether action is valid
+     * @param actions {@link String}
      */
-    private Boolean isValidAction(String action) {
-        return !Common.Strings.isEmpty(action);
+    public static void $removeListeners(String... actions) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.removeListeners(actions);
+        }
     }
 
-
     /**
-     * A listener interface which receivers have to implement in order
-     * to be invoked when broadcast is sent
+     * Register a component to be able to receive action broadcasts
+     *
+     * @param action    {@link String}
+     * @param listeners {@link OnBroadcastListener}
+     * @since 0.6.0
      */
-    public interface OnBroadcastListener {
-        //TODO handle broadcasting exception or errors
-
-        /**
+    public static void $on(@NonNull String action, @NonNull OnBroadcastListener... listeners) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.on(action, listeners);
+        }
+    }
+
+    /**
+     * Register a component to be able to receive action broadcasts until
+     * its {@link LifecycleOwner} is destroyed
+     *
+     * @param owner    {@link LifecycleOwner} which controls the subscription
+     * @param action   {@link String}
+     * @param listener {@link OnBroadcastListener}
+     * @return {@link Subscription} or null if not initialized
+     * @since 0.7.0
+     */
+    @MainThread
+    @Nullable
+    public static Subscription $on(
+            @NonNull LifecycleOwner owner, @NonNull String action,
+            @NonNull OnBroadcastListener listener) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            return instance.on(owner, action, listener);
+        }
+        return null;
+    }
+
+    /**
+     * Register a component to be able to receive action broadcasts
+     *
+     * @param action   {@link String}
+     * @param listener {@link OnBroadcastListener}
+     * @return {@link Subscription} or null if not initialized
+     * @since 0.7.0
+     */
+    @Nullable
+    public static Subscription $subscribe(
+            @NonNull String action, @NonNull OnBroadcastListener listener) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            return instance.subscribe(action, listener);
+        }
+        return null;
+    }
+
+    /**
+     * Register a component to be able to receive action broadcasts
+     *
+     * @param action   {@link String}
+     * @param options  {@link Options}
+     * @param listener {@link OnBroadcastListener}
+     * @return {@link Subscription} or null if not initialized
+     * @since 0.7.0
+     */
+    @Nullable
+    public static Subscription $subscribe(
+            @NonNull String action, @NonNull Options options,
+            @NonNull OnBroadcastListener listener) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            return instance.subscribe(action, options, listener);
+        }
+        return null;
+    }
+
+    /**
+     * Register a component to be able to receive typed events
+     *
+     * @param type     event class
+     * @param listener {@link OnEventListener}
+     * @param <T>      event type
+     * @return {@link Subscription} or null if not initialized
+     * @since 0.7.0
+     */
+    @Nullable
+    public static <T> Subscription $subscribe(
+            @NonNull Class<T> type, @NonNull OnEventListener<? super T> listener) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            return instance.subscribe(type, listener);
+        }
+        return null;
+    }
+
+    /**
+     * Clear action listener(s)
+     *
+     * @param listeners {@link OnBroadcastListener}
+     * @since 0.6.0
+     */
+    public static void $removeListeners(OnBroadcastListener... listeners) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.removeListeners(listeners);
+        }
+    }
+
+    /**
+     * Listen for broadcasts on default action
+     *
+     * @param owner    The LifecycleOwner which controls the observer
+     * @param observer The observer that will receive the network status
+     * @since 0.6.0
+     */
+    @MainThread
+    public static void observe(
+            @NonNull LifecycleOwner owner, @NonNull Observer<Bundle> observer) {
+        observe(owner, DEFAULT_ACTION, observer);
+    }
+
+    /**
+     * Listen for broadcasted actions
+     *
+     * @param owner    The LifecycleOwner which controls the observer
+     * @param action   valid action to observe
+     * @param observer The observer that will receive the network status
+     * @since 0.6.0
+     */
+    @MainThread
+    public static void observe(
+            @NonNull LifecycleOwner owner, @NonNull String action,
+            @NonNull Observer<Bundle> observer) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.liveDataOf(action, false).observe(owner, observer);
+        }
+    }
+
+    /**
+     * Listen for broadcasted actions, conflating to latest extras.
+     * <p>
+     * Unlike {@link #observe(LifecycleOwner, String, Observer)}, extras emitted
+     * before main thread get a chance to notify observers are dropped in favour
+     * of the latest one.
+     *
+     * @param owner    The LifecycleOwner which controls the observer
+     * @param action   valid action to observe
+     * @param observer The observer that will receive the latest extras
+     * @since 0.7.0
+     */
+    @MainThread
+    public static void observeLatest(
+            @NonNull LifecycleOwner owner, @NonNull String action,
+            @NonNull Observer<Bundle> observer) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.liveDataOf(action, true).observe(owner, observer);
+        }
+    }
+
+    /**
+     * Obtain shared {@link LocalBroadcastLiveData} of an action
+     *
+     * @param action valid action to observe
+     * @param latest whether to conflate to latest extras
+     * @return {@link LocalBroadcastLiveData}
+     */
+    @MainThread
+    @NonNull
+    private LocalBroadcastLiveData liveDataOf(@NonNull String action, boolean latest) {
+        String key = (latest ? "latest:" : "all:") + action;
+        LocalBroadcastLiveData broadcast = (LocalBroadcastLiveData) this.liveData.get(key);
+        if (broadcast == null) {
+            broadcast = new LocalBroadcastLiveData(this, key, action, latest);
+            this.liveData.put(key, broadcast);
+        }
+        return broadcast;
+    }
+
+    /**
+     * Release shared {@link LiveData} once its last observer is removed
+     *
+     * @param key      shared {@link LiveData} key
+     * @param released {@link LiveData} without observers
+     */
+    @MainThread
+    private void releaseLiveData(@NonNull String key, @NonNull BurstLiveData<?> released) {
+        if (this.liveData.get(key) == released) {
+            this.liveData.remove(key);
+        }
+    }
+
+    /**
+     * Listen for typed events.
+     * <p>
+     * Note: {@link PooledEvent}(s) are recycled once delivered and must not be
+     * observed through {@link LiveData}.
+     *
+     * @param owner    The LifecycleOwner which controls the observer
+     * @param type     event class to observe
+     * @param observer The observer that will receive the events
+     * @param <T>      event type
+     * @since 0.7.0
+     */
+    @MainThread
+    public static <T> void observe(
+            @NonNull LifecycleOwner owner, @NonNull Class<T> type,
+            @NonNull Observer<T> observer) {
+        LocalBurst instance = LocalBurst.getInstance();
+        if (instance != null) {
+            instance.liveDataOf(type).observe(owner, observer);
+        }
+    }
+
+    /**
+     * Obtain shared {@link EventLiveData} of a type
+     *
+     * @param type event class to observe
+     * @param <T>  event type
+     * @return {@link EventLiveData}
+     */
+    @MainThread
+    @NonNull
+    private <T> EventLiveData<T> liveDataOf(@NonNull Class<T> type) {
+        String key = "type:" + type.getName();
+        @SuppressWarnings("unchecked")
+        EventLiveData<T> events = (EventLiveData<T>) this.liveData.get(key);
+        if (events == null) {
+            events = new EventLiveData<T>(this, key, type);
+            this.liveData.put(key, events);
+        }
+        return events;
+    }
+
+    /**
+     * Notify action listeners about a received broadcast.
+     * <p>
+     * Kept for compatibility with callers registering {@link LocalBurst}
+     * as a receiver. Listeners are notified through
+     * {@link LocalBroadcastManager} receivers of {@link Mode#BROADCAST}, or
+     * directly in {@link Mode#DIRECT}.
+     *
+     * @param context {@link Context}
+     * @param intent  received {@link Intent}
+     * @deprecated since 0.7.0, use {@link #emit(String, Bundle)} instead
+     */
+    @Deprecated
+    @Override
+    public void onReceive(Context context, Intent intent) {
+        //obtain broadcast action
+        String action = Common.Strings.valueOr(intent.getAction(), DEFAULT_ACTION);
+
+        //notify action listeners
+        this.deliver(action, intent.getExtras(), false);
+    }
+
+    /**
+     * Notify action listeners about emitted action.
+     * <p>
+     * Each listener is invoked on the thread of its {@link ThreadMode}, or
+     * inline on the calling thread when delivering synchronously.
+     * All listeners share a single read-only extras, except those which
+     * opted in to receive their own copy using {@link Options}. Typed
+     * events are only delivered to listeners of matching type, and
+     * {@link PooledEvent}(s) are recycled once delivered to all listeners.
+     *
+     * @param action  action name
+     * @param payload extras {@link Bundle} or typed event
+     * @param sync    whether to invoke all listeners on the calling thread
+     */
+    void deliver(@NonNull String action, @Nullable Object payload, boolean sync) {
+        //obtain specific action broadcast listeners snapshot
+        Subscription[] subscriptions = this.listeners.subscriptions(action);
+        DispatchMonitor monitor = this.monitor;
+        if (monitor != null) {
+            monitor.onEmit(action, subscriptions.length);
+        }
+
+        //notify all action listeners
+        boolean isMainThread = this.schedulers.isMainThread();
+        Deliveries deferred =
+                this.route(subscriptions, action, payload, isMainThread, sync, !sync, false, null);
+        this.flush(deferred);
+    }
+
+    /**
+     * Notify listeners of a resolved topic about emitted action, without
+     * looking up action listeners
+     *
+     * @param topic   resolved action {@link Registry.Topic}
+     * @param payload extras {@link Bundle} or typed event
+     * @param sync    whether to invoke all listeners on the calling thread
+     * @see #deliver(String, Object, boolean)
+     */
+    void deliver(@NonNull Registry.Topic topic, @Nullable Object payload, boolean sync) {
+        //obtain topic listeners snapshot
+        Subscription[] subscriptions = this.listeners.subscriptions(topic);
+        DispatchMonitor monitor = this.monitor;
+        if (monitor != null) {
+            monitor.onEmit(topic.action, subscriptions.length);
+        }
+
+        //notify all action listeners
+        boolean isMainThread = this.schedulers.isMainThread();
+        Deliveries deferred =
+                this.route(
+                subscriptions, topic.action, payload, isMainThread, sync, !sync, false, null);
+        this.flush(deferred);
+    }
+
+    /**
+     * Notify action listeners about a keyed emit, handing over its
+     * {@link ThreadMode#BACKGROUND} and {@link ThreadMode#ASYNC} listeners
+     * to the serial executor of its key
+     *
+     * @param action  action name
+     * @param payload extras {@link Bundle} or typed event
+     * @param stripe  serial {@link Executor} of emit key
+     * @see #deliver(String, Object, boolean)
+     */
+    void deliver(@NonNull String action, @Nullable Object payload, @NonNull Executor stripe) {
+        //obtain specific action broadcast listeners snapshot
+        Subscription[] subscriptions = this.listeners.subscriptions(action);
+        DispatchMonitor monitor = this.monitor;
+        if (monitor != null) {
+            monitor.onEmit(action, subscriptions.length);
+        }
+
+        //notify all action listeners
+        boolean isMainThread = this.schedulers.isMainThread();
+        Deliveries deferred =
+                this.route(subscriptions, action, payload, isMainThread, false, true, true, null);
+        this.flush(deferred, stripe);
+    }
+
+    /**
+     * Notify action listeners about a batch of emitted actions in emit order.
+     * <p>
+     * Listeners snapshot is taken once per run of the same action, and
+     * reused by later runs of that action, and invocations deferred to main
+     * or background thread are handed over as a single task.
+     *
+     * @param events {@link Event}(s)
+     * @param sync   whether to invoke all listeners on the calling thread
+     * @see #deliver(String, Object, boolean)
+     */
+    void deliver(@NonNull List<Event> events, boolean sync) {
+        boolean isMainThread = this.schedulers.isMainThread();
+        DispatchMonitor monitor = this.monitor;
+        Deliveries deferred = null;
+
+        //snapshots of previous runs, only needed once batch mix actions
+        Map<String, Subscription[]> snapshots = null;
+        String action = null;
+        Subscription[] subscriptions = null;
+
+        for (Event event : events) {
+            //obtain action listeners snapshot once per action
+            if (!event.action.equals(action)) {
+                if (action != null) {
+                    snapshots = snapshots != null
+                            ? snapshots : new HashMap<String, Subscription[]>();
+                    snapshots.put(action, subscriptions);
+                }
+                action = event.action;
+                subscriptions = snapshots != null ? snapshots.get(action) : null;
+                if (subscriptions == null) {
+                    subscriptions = this.listeners.subscriptions(action);
+                }
+            }
+            if (monitor != null) {
+                monitor.onEmit(action, subscriptions.length);
+            }
+
+            //notify all action listeners
+            deferred = this.route(
+                    subscriptions, action, event.payload,
+                    isMainThread, sync, !sync, false, deferred);
+        }
+
+        this.flush(deferred);
+    }
+
+    /**
+     * Invoke or defer action listeners based on their {@link ThreadMode}
+     *
+     * @param subscriptions action listeners snapshot
+     * @param action        action name
+     * @param payload       extras {@link Bundle} or typed event
+     * @param isMainThread  whether calling thread is main thread
+     * @param sync          whether to invoke all listeners on the calling thread
+     * @param gated         whether to apply subscription {@link Policy}
+     * @param serial        whether to defer async listeners along with
+     *                      background listeners, to keep them in emit order
+     * @param deferred      invocations deferred so far, or null
+     * @return invocations deferred so far, or null
+     */
+    @Nullable
+    private Deliveries route(
+            @NonNull Subscription[] subscriptions,
+            @NonNull String action, @Nullable Object payload,
+            boolean isMainThread, boolean sync, boolean gated, boolean serial,
+            @Nullable Deliveries deferred) {
+        DispatchMonitor monitor = this.monitor;
+
+        //hold pooled event until routed
+        PooledEvent pooled = payload instanceof PooledEvent ? (PooledEvent) payload : null;
+        if (pooled != null) {
+            pooled.retain();
+        }
+
+        //track consumption by listeners invoked inline
+        Deliveries.Propagation propagation = Deliveries.PROPAGATION.get();
+        boolean consumed = propagation.consumed;
+        propagation.consumed = false;
+
+        try {
+            for (Subscription subscription : subscriptions) {
+                //stop propagation to lower priority listeners
+                if (propagation.consumed) {
+                    break;
+                }
+
+                //invoke inline when delivering synchronously
+                if (sync) {
+                    Deliveries.invoke(this, subscription, action, payload, monitor, 0);
+                    continue;
+                }
+
+                //apply subscription policy
+                if (gated && subscription.options.policy != null) {
+                    Gate gate = subscription.gate;
+                    if (gate == null) {
+                        gate = subscription.gate(this.sinkOf(subscription));
+                    }
+                    if (gate.offer(action, payload) != Gate.PASS) {
+                        continue;
+                    }
+                }
+
+                switch (subscription.options.threadMode) {
+                    case POSTING:
+                        Deliveries.invoke(this, subscription, action, payload, monitor, 0);
+                        break;
+
+                    case MAIN:
+                        if (isMainThread) {
+                            Deliveries.invoke(this, subscription, action, payload, monitor, 0);
+                        } else {
+                            deferred = deferred != null ? deferred : new Deliveries(this, monitor);
+                            deferred.main(subscription, action, payload);
+                        }
+                        break;
+
+                    case BACKGROUND:
+                        deferred = deferred != null ? deferred : new Deliveries(this, monitor);
+                        deferred.background(subscription, action, payload);
+                        break;
+
+                    case ASYNC:
+                        if (serial) {
+                            deferred = deferred != null ? deferred : new Deliveries(this, monitor);
+                            deferred.background(subscription, action, payload);
+                            break;
+                        }
+                        Deliveries.Pending pending = new Deliveries.Pending(this, monitor);
+                        this.schedulers.async().execute(pending.add(subscription, action, payload));
+                        break;
+                }
+            }
+        } finally {
+            //restore propagation of outer emit
+            propagation.consumed = consumed;
+
+            //release pooled event
+            if (pooled != null) {
+                pooled.release();
+            }
+        }
+
+        return deferred;
+    }
+
+    /**
+     * Create {@link Gate.Sink} which route released payloads to a single subscription
+     *
+     * @param subscription {@link Subscription}
+     * @return {@link Gate.Sink}
+     */
+    @NonNull
+    private Gate.Sink sinkOf(@NonNull final Subscription subscription) {
+        final Subscription[] subscriptions = {subscription};
+        return (action, payload) -> flush(route(subscriptions, action, payload,
+                schedulers.isMainThread(), false, false, false, null));
+    }
+
+    /**
+     * Hand over deferred invocations to their threads
+     *
+     * @param deferred deferred invocations or null
+     */
+    private void flush(@Nullable Deliveries deferred) {
+        this.flush(deferred, null);
+    }
+
+    /**
+     * Hand over deferred invocations to their threads
+     *
+     * @param deferred   deferred invocations or null
+     * @param background serial {@link Executor} of background invocations,
+     *                   or null for shared background thread
+     */
+    private void flush(@Nullable Deliveries deferred, @Nullable Executor background) {
+        if (deferred != null) {
+            //hop to main thread once
+            if (deferred.main != null) {
+                DispatchQueue queue = this.queue;
+                if (queue != null) {
+                    queue.offer(deferred.main.action(), deferred.main);
+                } else {
+                    this.schedulers.main.post(deferred.main);
+                }
+            }
+
+            //hop to background thread once
+            if (deferred.background != null) {
+                background = background != null ? background : this.schedulers.background();
+                background.execute(deferred.background);
+            }
+        }
+    }
+
+    /**
+     * Monitor dispatch of all actions, such as to collect {@link DispatchMetrics}
+     *
+     * @param monitor {@link DispatchMonitor} or null to stop monitoring
+     * @since 0.7.0
+     */
+    public void setMonitor(@Nullable DispatchMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    /**
+     * Obtain current {@link DispatchMonitor}
+     *
+     * @return {@link DispatchMonitor} or null when dispatch is not monitored
+     * @since 0.7.0
+     */
+    @Nullable
+    public DispatchMonitor getMonitor() {
+        return this.monitor;
+    }
+
+    /**
+     * Bound emits waiting for main thread, so that producers outrunning
+     * main looper do not grow memory without limit.
+     * <p>
+     * Applies to listeners with {@link ThreadMode#MAIN} invoked from other
+     * threads, and to broadcasts in {@link Mode#BROADCAST}. Background and
+     * async listeners are not queued. Emits already queued in a previous
+     * queue are discarded.
+     *
+     * @param capacity maximum number of queued emits
+     * @param overflow {@link Overflow} policy when queue is full
+     * @throws IllegalArgumentException if capacity is not positive
+     * @since 0.7.0
+     */
+    public void setQueue(int capacity, @NonNull Overflow overflow) {
+        DispatchQueue previous = this.queue;
+        this.queue = new DispatchQueue(this.schedulers, capacity, overflow);
+        if (previous != null) {
+            previous.clear();
+        }
+    }
+
+    /**
+     * Remove bounded queue, posting each emit waiting for main thread
+     * without limit. Emits already queued are discarded.
+     *
+     * @since 0.7.0
+     */
+    public void clearQueue() {
+        DispatchQueue previous = this.queue;
+        this.queue = null;
+        if (previous != null) {
+            previous.clear();
+        }
+    }
+
+    /**
+     * Obtain current bounded queue, such as to read its depth and drop counts
+     *
+     * @return {@link DispatchQueue} or null when emits are not bounded
+     * @since 0.7.0
+     */
+    @Nullable
+    public DispatchQueue getQueue() {
+        return this.queue;
+    }
+
+    /**
+     * Obtain serial executors of keyed emits, such as to read how evenly
+     * keys spread over them
+     *
+     * @return {@link Stripes}
+     * @see #emit(String, Object, Bundle)
+     * @since 0.7.0
+     */
+    @NonNull
+    public Stripes getStripes() {
+        return this.schedulers.stripes();
+    }
+
+    /**
+     * Stop broadcast being handled by calling listener from reaching lower
+     * priority listeners.
+     * <p>
+     * Only effective from a listener invoked on the emitting thread, either
+     * with {@link ThreadMode#POSTING}, {@link ThreadMode#MAIN} when emitted
+     * from main thread, or by a synchronous emit. Listeners already handed
+     * over to other threads still receive the broadcast.
+     *
+     * @since 0.7.0
+     */
+    public void consume() {
+        Deliveries.PROPAGATION.get().consumed = true;
+    }
+
+    /**
+     * Handle errors thrown by listeners.
+     * <p>
+     * A listener error never prevent remaining listeners from being
+     * invoked. Without a handler, errors are emitted as {@link DispatchError}
+     * typed events, or logged when there is no such event listener.
+     *
+     * @param handler {@link OnErrorListener} or null to use default handling
+     * @since 0.7.0
+     */
+    public void setErrorHandler(@Nullable OnErrorListener handler) {
+        this.errorHandler = handler;
+    }
+
+    /**
+     * Report error thrown by a listener
+     *
+     * @param action   action name
+     * @param listener failed listener
+     * @param error    thrown error
+     */
+    void report(
+            @NonNull String action, @NonNull Object listener, @NonNull RuntimeException error) {
+        OnErrorListener handler = this.errorHandler;
+        if (handler != null) {
+            //keep failing handler from aborting remaining listeners
+            try {
+                handler.onError(action, listener, error);
+            } catch (RuntimeException failure) {
+                Log.e(TAG, "Error handler of " + action + " failed", failure);
+                Log.e(TAG, "Listener of " + action + " failed", error);
+            }
+            return;
+        }
+
+        //emit on error channel, unless error listener itself failed
+        String channel = DispatchError.class.getName();
+        if (!channel.equals(action) && this.listeners.subscriptions(channel).length > 0) {
+            this.emit(DispatchError.class, new DispatchError(action, listener, error));
+            return;
+        }
+
+        Log.e(TAG, "Listener of " + action + " failed", error);
+    }
+
+    /**
+     * Change {@link Mode} used to dispatch actions.
+     * <p>
+     * Since 0.7.0 default is {@link Mode#DIRECT}, which invoke listeners of
+     * an emit from main thread before emit returns. Switch to
+     * {@link Mode#BROADCAST} to keep previous behaviour, where listeners
+     * are always invoked on a later main looper message.
+     *
+     * @param mode {@link Mode}
+     * @since 0.7.0
+     */
+    public synchronized void setMode(@NonNull Mode mode) {
+        if (this.mode != mode) {
+            //release current dispatcher
+            this.dispatcher.detach();
+
+            //take over with new dispatcher
+            Dispatcher dispatcher = createDispatcher(mode);
+            dispatcher.attach(this.listeners.actions());
+            this.dispatcher = dispatcher;
+            this.mode = mode;
+        }
+    }
+
+    /**
+     * Obtain current {@link Mode} used to dispatch actions
+     *
+     * @return {@link Mode}
+     * @since 0.7.0
+     */
+    @NonNull
+    public Mode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Register a component to be able to receive action broadcasts
+     *
+     * @param action    {@link String}
+     * @param listeners {@link OnBroadcastListener}
+     */
+    public void on(@NonNull String action, @NonNull OnBroadcastListener... listeners) {
+        this.on(action, Options.DEFAULT, listeners);
+    }
+
+    /**
+     * Register a component to be able to receive action broadcasts with
+     * a given priority
+     *
+     * @param action    {@link String}
+     * @param priority  delivery priority, higher are delivered first
+     * @param listeners {@link OnBroadcastListener}
+     * @since 0.7.0
+     */
+    public void on(
+            @NonNull String action, int priority, @NonNull OnBroadcastListener... listeners) {
+        this.on(action, new Options.Builder().priority(priority).build(), listeners);
+    }
+
+    /**
+     * Register a component to be able to receive action broadcasts
+     *
+     * @param action    {@link String}
+     * @param options   {@link Options}
+     * @param listeners {@link OnBroadcastListener}
+     * @since 0.7.0
+     */
+    public void on(
+            @NonNull String action, @NonNull Options options,
+            @NonNull OnBroadcastListener... listeners) {
+
+        if (isValidAction(action)) {
+            //register {@link OnReceiveBroadcastListener} in given order
+            Set<OnBroadcastListener> _listeners =
+                    new LinkedHashSet<OnBroadcastListener>(Arrays.asList(listeners));
+
+            //get action broadcast listeners
+            Registry.Topic topic = this.listeners.topic(action);
+            for (OnBroadcastListener listener : _listeners) {
+                this.register(topic, listener, null, options);
+            }
+        }
+
+    }
+
+    /**
+     * Register a component to be able to receive action broadcasts.
+     * <p>
+     * Subscribing an already subscribed listener return its existing
+     * {@link Subscription}.
+     *
+     * @param action   {@link String}
+     * @param listener {@link OnBroadcastListener}
+     * @return {@link Subscription} or null if action is not valid
+     * @since 0.7.0
+     */
+    @Nullable
+    public Subscription subscribe(@NonNull String action, @NonNull OnBroadcastListener listener) {
+        return this.subscribe(action, Options.DEFAULT, listener);
+    }
+
+    /**
+     * Register a component to be able to receive action broadcasts
+     *
+     * @param action   {@link String}
+     * @param options  {@link Options}
+     * @param listener {@link OnBroadcastListener}
+     * @return {@link Subscription} or null if action is not valid
+     * @since 0.7.0
+     */
+    @Nullable
+    public Subscription subscribe(
+            @NonNull String action, @NonNull Options options,
+            @NonNull OnBroadcastListener listener) {
+        if (isValidAction(action)) {
+            return this.register(this.listeners.topic(action), listener, null, options);
+        }
+        return null;
+    }
+
+    /**
+     * Register a component to be able to receive action broadcasts until
+     * its {@link LifecycleOwner} is destroyed
+     *
+     * @param owner    {@link LifecycleOwner} which controls the subscription
+     * @param action   {@link String}
+     * @param listener {@link OnBroadcastListener}
+     * @return {@link Subscription} or null if action is not valid or owner
+     * is already destroyed
+     * @since 0.7.0
+     */
+    @MainThread
+    @Nullable
+    public Subscription on(
+            @NonNull LifecycleOwner owner, @NonNull String action,
+            @NonNull OnBroadcastListener listener) {
+        return this.on(owner, action, Options.DEFAULT, listener);
+    }
+
+    /**
+     * Register a component to be able to receive action broadcasts until
+     * its {@link LifecycleOwner} is destroyed
+     *
+     * @param owner    {@link LifecycleOwner} which controls the subscription
+     * @param action   {@link String}
+     * @param options  {@link Options}
+     * @param listener {@link OnBroadcastListener}
+     * @return {@link Subscription} or null if action is not valid or owner
+     * is already destroyed
+     * @since 0.7.0
+     */
+    @MainThread
+    @Nullable
+    public Subscription on(
+            @NonNull LifecycleOwner owner, @NonNull String action,
+            @NonNull Options options, @NonNull OnBroadcastListener listener) {
+        final Lifecycle lifecycle = owner.getLifecycle();
+        if (lifecycle.getCurrentState() == Lifecycle.State.DESTROYED) {
+            return null;
+        }
+
+        final Subscription subscription = this.subscribe(action, options, listener);
+        if (subscription != null) {
+            //unsubscribe once owner is destroyed
+            lifecycle.addObserver(new LifecycleEventObserver() {
+                @Override
+                public void onStateChanged(
+                        @NonNull LifecycleOwner source, @NonNull Lifecycle.Event event) {
+                    if (event == Lifecycle.Event.ON_DESTROY) {
+                        lifecycle.removeObserver(this);
+                        subscription.unsubscribe();
+                    }
+                }
+            });
+        }
+        return subscription;
+    }
+
+    /**
+     * Register a component to be able to receive typed events
+     *
+     * @param type     event class
+     * @param listener {@link OnEventListener}
+     * @param <T>      event type
+     * @since 0.7.0
+     */
+    public <T> void on(@NonNull Class<T> type, @NonNull OnEventListener<? super T> listener) {
+        this.subscribe(type, listener);
+    }
+
+    /**
+     * Register a component to be able to receive typed events
+     *
+     * @param type     event class
+     * @param listener {@link OnEventListener}
+     * @param <T>      event type
+     * @return {@link Subscription}
+     * @since 0.7.0
+     */
+    @NonNull
+    public <T> Subscription subscribe(
+            @NonNull Class<T> type, @NonNull OnEventListener<? super T> listener) {
+        return this.subscribe(type, Options.DEFAULT, listener);
+    }
+
+    /**
+     * Register a component to be able to receive typed events
+     *
+     * @param type     event class
+     * @param options  {@link Options}
+     * @param listener {@link OnEventListener}
+     * @param <T>      event type
+     * @return {@link Subscription}
+     * @since 0.7.0
+     */
+    @NonNull
+    public <T> Subscription subscribe(
+            @NonNull Class<T> type, @NonNull Options options,
+            @NonNull OnEventListener<? super T> listener) {
+        return this.register(this.listeners.topic(type.getName()), listener, type, options);
+    }
+
+    /**
+     * Register a component to be able to receive typed events emitted on an action
+     *
+     * @param action   {@link String}
+     * @param type     event class
+     * @param listener {@link OnEventListener}
+     * @param <T>      event type
+     * @return {@link Subscription} or null if action is not valid
+     * @since 0.7.0
+     */
+    @Nullable
+    public <T> Subscription subscribe(
+            @NonNull String action, @NonNull Class<T> type,
+            @NonNull OnEventListener<? super T> listener) {
+        return this.subscribe(action, type, Options.DEFAULT, listener);
+    }
+
+    /**
+     * Register a component to be able to receive typed events emitted on an action
+     *
+     * @param action   {@link String}
+     * @param type     event class
+     * @param options  {@link Options}
+     * @param listener {@link OnEventListener}
+     * @param <T>      event type
+     * @return {@link Subscription} or null if action is not valid
+     * @since 0.7.0
+     */
+    @Nullable
+    public <T> Subscription subscribe(
+            @NonNull String action, @NonNull Class<T> type,
+            @NonNull Options options, @NonNull OnEventListener<? super T> listener) {
+        if (isValidAction(action)) {
+            return this.register(this.listeners.topic(action), listener, type, options);
+        }
+        return null;
+    }
+
+    /**
+     * Add build time index of {@link OnBurst} handlers, generated by the
+     * localburst annotation processor
+     *
+     * @param index {@link SubscriberIndex}
+     * @since 0.7.0
+     */
+    public synchronized void addIndex(@NonNull SubscriberIndex index) {
+        SubscriberIndex[] indexes = Arrays.copyOf(this.indexes, this.indexes.length + 1);
+        indexes[this.indexes.length] = index;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Subscribe all {@link OnBurst} handlers of a subscriber, including
+     * those declared by its super classes.
+     * <p>
+     * Handlers are subscribed by generated {@link SubscriberIndex.Binder}(s)
+     * without reflection, and a handler overridden by a subclass handler is
+     * subscribed once. Registering an already registered subscriber return
+     * its existing subscriptions.
+     *
+     * @param subscriber object declaring {@link OnBurst} handlers
+     * @return handlers {@link Subscription}(s)
+     * @throws IllegalArgumentException if no added index know subscriber class
+     * @since 0.7.0
+     */
+    @NonNull
+    public List<Subscription> register(@NonNull Object subscriber) {
+        //bind under lock, so that concurrent registrations bind only once
+        synchronized (this.registered) {
+            List<Subscription> existing = this.registered.get(subscriber);
+            if (existing != null) {
+                return existing;
+            }
+
+            //bind handlers of class hierarchy, subclasses first
+            List<Subscription> subscriptions = new ArrayList<Subscription>();
+            Set<String> bound = new HashSet<String>();
+            boolean indexed = false;
+            for (Class<?> type = subscriber.getClass();
+                 type != null && type != Object.class; type = type.getSuperclass()) {
+                SubscriberIndex.Binder binder = this.binderOf(type);
+                if (binder != null) {
+                    indexed = true;
+                    subscriptions.addAll(binder.bind(this, subscriber, bound));
+                }
+            }
+            if (!indexed) {
+                throw new IllegalArgumentException(
+                        "No @OnBurst handlers indexed for " + subscriber.getClass().getName());
+            }
+
+            subscriptions = Collections.unmodifiableList(subscriptions);
+            this.registered.put(subscriber, subscriptions);
+            return subscriptions;
+        }
+    }
+
+    /**
+     * Unsubscribe all {@link OnBurst} handlers of a registered subscriber
+     *
+     * @param subscriber registered subscriber
+     * @since 0.7.0
+     */
+    public void unregister(@NonNull Object subscriber) {
+        List<Subscription> subscriptions;
+        synchronized (this.registered) {
+            subscriptions = this.registered.remove(subscriber);
+        }
+        if (subscriptions != null) {
+            for (Subscription subscription : subscriptions) {
+                subscription.unsubscribe();
+            }
+        }
+    }
+
+    /**
+     * Check if a subscriber is registered
+     *
+     * @param subscriber subscriber
+     * @return whether subscriber is registered
+     * @since 0.7.0
+     */
+    public boolean isRegistered(@NonNull Object subscriber) {
+        synchronized (this.registered) {
+            return this.registered.containsKey(subscriber);
+        }
+    }
+
+    @Nullable
+    private SubscriberIndex.Binder binderOf(@NonNull Class<?> type) {
+        for (SubscriberIndex index : this.indexes) {
+            SubscriberIndex.Binder binder = index.binderOf(type);
+            if (binder != null) {
+                return binder;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Subscribe listener on a topic, and replay sticky payload of the topic
+     * action, or of every action matching a wildcard topic, to it when
+     * newly subscribed
+     *
+     * @param topic    {@link Registry.Topic}
+     * @param listener {@link OnBroadcastListener} or {@link OnEventListener}
+     * @param type     typed event class or null for extras listener
+     * @param options  {@link Options}
+     * @return new or existing {@link Subscription}
+     */
+    @NonNull
+    Subscription register(
+            @NonNull Registry.Topic topic, @NonNull Object listener,
+            @Nullable Class<?> type, @NonNull Options options) {
+        Subscription existing = topic.find(listener);
+        Subscription subscription = topic.add(listener, type, options);
+
+        //replay latest sticky payload
+        if (subscription != existing) {
+            Subscription[] subscriptions = {subscription};
+            boolean isMainThread = this.schedulers.isMainThread();
+            if (!Wildcards.isPattern(topic.action)) {
+                Object payload = this.sticky.get(topic.action);
+                if (payload != null) {
+                    this.flush(this.route(subscriptions, topic.action, payload,
+                            isMainThread, false, false, false, null));
+                }
+            }
+
+            //replay latest sticky payloads of matching actions
+            else {
+                Deliveries deferred = null;
+                for (Map.Entry<String, Object> entry
+                        : this.sticky.matching(topic.action).entrySet()) {
+                    deferred = this.route(subscriptions, entry.getKey(), entry.getValue(),
+                            isMainThread, false, false, false, deferred);
+                }
+                this.flush(deferred);
+            }
+        }
+
+        return subscription;
+    }
+
+    /**
+     * Register a component to be able to receive action broadcasts
+     *
+     * @param listener {@link OnBroadcastListener}
+     * @param actions  {@link String}
+     */
+    public void on(@NonNull OnBroadcastListener listener, @NonNull String... actions) {
+        //prepare action set
+        Set<String> _actions = Common.Value.setOf(actions);
+
+        //register broadcast listener
+        for (String action : _actions) {
+            if (isValidAction(action)) {
+                this.on(action, listener);
+            }
+        }
+
+    }
+
+    /**
+     * Emit/Notify about specific action
+     *
+     * @param action action name
+     * @param bundle additional details to be handles to receiver of the broadcast
+     */
+    public void emit(@NonNull String action, @NonNull Bundle bundle) {
+        if (isValidAction(action)) {
+            this.dispatch(action, bundle);
+        }
+    }
+
+    /**
+     * Emit/Notify about specific action, building its extras only when
+     * the action has listeners.
+     * <p>
+     * Used for actions, such as diagnostics, which usually have no
+     * listeners, to skip building extras nobody reads.
+     *
+     * @param action   action name
+     * @param supplier {@link Supplier} of additional details
+     * @since 0.7.0
+     */
+    public void emit(@NonNull String action, @NonNull Supplier<Bundle> supplier) {
+        if (isValidAction(action) && this.listeners.hasSubscriptions(action)) {
+            this.dispatch(action, supplier.get());
+        }
+    }
+
+    /**
+     * Emit/Notify about default action
+     *
+     * @param bundle additional details to be handles to receiver of the broadcast
+     */
+    public void emit(@NonNull Bundle bundle) {
+        if (isValidAction(DEFAULT_ACTION)) {
+            this.dispatch(DEFAULT_ACTION, bundle);
+        }
+    }
+
+    /**
+     * Emit/Notify typed event on its type channel
+     *
+     * @param type  event class
+     * @param event event to be handled by listeners
+     * @param <T>   event type
+     * @since 0.7.0
+     */
+    public <T> void emit(@NonNull Class<T> type, @NonNull T event) {
+        this.dispatch(type.getName(), event);
+    }
+
+    /**
+     * Emit/Notify typed event on its type channel, creating the event only
+     * when the type has listeners
+     *
+     * @param type     event class
+     * @param supplier {@link Supplier} of event to be handled by listeners
+     * @param <T>      event type
+     * @since 0.7.0
+     */
+    public <T> void emit(@NonNull Class<T> type, @NonNull Supplier<? extends T> supplier) {
+        if (this.listeners.hasSubscriptions(type.getName())) {
+            this.dispatch(type.getName(), supplier.get());
+        }
+    }
+
+    /**
+     * Emit/Notify typed event on specific action
+     *
+     * @param action action name
+     * @param event  event to be handled by listeners
+     * @param <T>    event type
+     * @since 0.7.0
+     */
+    public <T> void emit(@NonNull String action, @NonNull T event) {
+        if (isValidAction(action)) {
+            this.dispatch(action, event);
+        } else if (event instanceof PooledEvent) {
+            ((PooledEvent) event).recycle();
+        }
+    }
+
+    /**
+     * Emit/Notify about specific action
+     *
+     * @param action action name
+     */
+    public void emit(@NonNull String action) {
+        if (isValidAction(action)) {
+            this.dispatch(action, null);
+        }
+    }
+
+    /**
+     * Emit/Notify about specific action of a keyed entity, such as
+     * {@code order/123}.
+     * <p>
+     * {@link ThreadMode#BACKGROUND} and {@link ThreadMode#ASYNC} listeners
+     * are handed over to one of a fixed set of serial executors chosen by
+     * key hash, so that emits of the same key are delivered in emit order
+     * while emits of different keys are delivered in parallel. Other
+     * listeners are invoked as for {@link #emit(String, Bundle)}.
+     * <p>
+     * Keyed emits are delivered directly in both {@link Mode}(s) and are
+     * not collected into a batch.
+     *
+     * @param action action name
+     * @param key    entity key, such as order id
+     * @param bundle additional details to be handles to receiver of the broadcast
+     * @see #getStripes()
+     * @since 0.7.0
+     */
+    public void emit(@NonNull String action, @NonNull Object key, @NonNull Bundle bundle) {
+        if (isValidAction(action)) {
+            this.dispatch(action, key, bundle);
+        }
+    }
+
+    /**
+     * Emit/Notify typed event on specific action of a keyed entity,
+     * delivering events of the same key in order
+     *
+     * @param action action name
+     * @param key    entity key, such as order id
+     * @param event  event to be handled by listeners
+     * @param <T>    event type
+     * @see #emit(String, Object, Bundle)
+     * @since 0.7.0
+     */
+    public <T> void emit(@NonNull String action, @NonNull Object key, @NonNull T event) {
+        if (isValidAction(action)) {
+            this.dispatch(action, key, event);
+        } else if (event instanceof PooledEvent) {
+            ((PooledEvent) event).recycle();
+        }
+    }
+
+    /**
+     * Emit/Notify about specific action after a delay.
+     * <p>
+     * Delayed emits are kept in a single timing wheel with 10 milliseconds
+     * resolution, instead of a Handler message each, and are emitted from
+     * a timer thread. Use {@link Scheduled#cancel()} to cancel an emit
+     * which is not yet due.
+     *
+     * @param action action name
+     * @param bundle additional details to be handles to receiver of the broadcast
+     * @param delay  time until emit
+     * @param unit   {@link TimeUnit} of delay
+     * @return {@link Scheduled}
+     * @throws IllegalArgumentException if action is not valid
+     * @since 0.7.0
+     */
+    @NonNull
+    public Scheduled emitDelayed(
+            @NonNull String action, @NonNull Bundle bundle, long delay, @NonNull TimeUnit unit) {
+        return this.schedule(action, bundle, unit.toNanos(delay), 0);
+    }
+
+    /**
+     * Emit/Notify about specific action after a delay
+     *
+     * @param action action name
+     * @param delay  time until emit
+     * @param unit   {@link TimeUnit} of delay
+     * @return {@link Scheduled}
+     * @throws IllegalArgumentException if action is not valid
+     * @see #emitDelayed(String, Bundle, long, TimeUnit)
+     * @since 0.7.0
+     */
+    @NonNull
+    public Scheduled emitDelayed(@NonNull String action, long delay, @NonNull TimeUnit unit) {
+        return this.schedule(action, null, unit.toNanos(delay), 0);
+    }
+
+    /**
+     * Emit/Notify typed event on its type channel after a delay
+     *
+     * @param type  event class
+     * @param event event to be handled by listeners
+     * @param delay time until emit
+     * @param unit  {@link TimeUnit} of delay
+     * @param <T>   event type
+     * @return {@link Scheduled}
+     * @throws IllegalArgumentException if event is a {@link PooledEvent}
+     * @see #emitDelayed(String, Bundle, long, TimeUnit)
+     * @since 0.7.0
+     */
+    @NonNull
+    public <T> Scheduled emitDelayed(
+            @NonNull Class<T> type, @NonNull T event, long delay, @NonNull TimeUnit unit) {
+        return this.schedule(type.getName(), event, unit.toNanos(delay), 0);
+    }
+
+    /**
+     * Emit/Notify about specific action repeatedly at a fixed rate, until
+     * cancelled using {@link Scheduled#cancel()}.
+     * <p>
+     * Each emit is due a period after previous one was due, so that a
+     * late emit does not shift following ones.
+     *
+     * @param action       action name
+     * @param bundle       additional details to be handles to receiver of the broadcast
+     * @param initialDelay time until first emit
+     * @param period       time between emits
+     * @param unit         {@link TimeUnit} of initial delay and period
+     * @return {@link Scheduled}
+     * @throws IllegalArgumentException if action is not valid or period is not positive
+     * @see #emitDelayed(String, Bundle, long, TimeUnit)
+     * @since 0.7.0
+     */
+    @NonNull
+    public Scheduled emitAtFixedRate(
+            @NonNull String action, @NonNull Bundle bundle,
+            long initialDelay, long period, @NonNull TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive");
+        }
+        return this.schedule(action, bundle, unit.toNanos(initialDelay), unit.toNanos(period));
+    }
+
+    /**
+     * Schedule emit on timing wheel
+     *
+     * @param action  action name
+     * @param payload extras {@link Bundle} or typed event
+     * @param delay   nanoseconds until first emit
+     * @param period  nanoseconds between emits, or zero for one off emit
+     * @return {@link Scheduled}
+     */
+    @NonNull
+    private Scheduled schedule(
+            @NonNull String action, @Nullable Object payload, long delay, long period) {
+        if (payload instanceof PooledEvent) {
+            throw new IllegalArgumentException("Pooled events can not be scheduled");
+        }
+        if (payload == null || payload instanceof Bundle) {
+            if (!isValidAction(action)) {
+                throw new IllegalArgumentException("Invalid scheduled action");
+            }
+        }
+        return this.timer.schedule(action, payload, delay, period);
+    }
+
+    /**
+     * Emit scheduled action once due, on timer thread
+     *
+     * @param action  action name
+     * @param payload extras {@link Bundle} or typed event
+     */
+    void emitScheduled(@NonNull String action, @Nullable Object payload) {
+        this.dispatch(action, payload);
+    }
+
+    /**
+     * Emit/Notify about specific action, and keep its extras so that
+     * listeners registered later receive them immediately on registration
+     *
+     * @param action action name
+     * @param bundle additional details to be handles to receiver of the broadcast
+     * @since 0.7.0
+     */
+    public void emitSticky(@NonNull String action, @NonNull Bundle bundle) {
+        if (isValidAction(action)) {
+            this.sticky.put(action, bundle);
+            this.dispatch(action, bundle);
+        }
+    }
+
+    /**
+     * Emit/Notify about specific action, and keep it so that listeners
+     * registered later receive it immediately on registration
+     *
+     * @param action action name
+     * @since 0.7.0
+     */
+    public void emitSticky(@NonNull String action) {
+        this.emitSticky(action, Bundle.EMPTY);
+    }
+
+    /**
+     * Emit/Notify typed event on its type channel, and keep it so that
+     * listeners registered later receive it immediately on registration.
+     * <p>
+     * Sticky events are kept after delivery hence can not be pooled.
+     *
+     * @param type  event class
+     * @param event event to be handled by listeners
+     * @param <T>   event type
+     * @throws IllegalArgumentException if event is a {@link PooledEvent}
+     * @since 0.7.0
+     */
+    public <T> void emitSticky(@NonNull Class<T> type, @NonNull T event) {
+        if (event instanceof PooledEvent) {
+            throw new IllegalArgumentException("Pooled events can not be sticky");
+        }
+        this.sticky.put(type.getName(), event);
+        this.dispatch(type.getName(), event);
+    }
+
+    /**
+     * Obtain latest sticky extras of an action
+     *
+     * @param action action name
+     * @return latest sticky extras or null
+     * @since 0.7.0
+     */
+    @Nullable
+    public Bundle getSticky(@NonNull String action) {
+        Object payload = this.sticky.get(action);
+        return payload instanceof Bundle ? (Bundle) payload : null;
+    }
+
+    /**
+     * Obtain latest sticky typed event
+     *
+     * @param type event class
+     * @param <T>  event type
+     * @return latest sticky event or null
+     * @since 0.7.0
+     */
+    @Nullable
+    public <T> T getSticky(@NonNull Class<T> type) {
+        Object payload = this.sticky.get(type.getName());
+        return type.isInstance(payload) ? type.cast(payload) : null;
+    }
+
+    /**
+     * Remove latest sticky extras of an action
+     *
+     * @param action action name
+     * @return whether sticky extras were removed
+     * @since 0.7.0
+     */
+    public boolean removeSticky(@NonNull String action) {
+        return this.sticky.remove(action) != null;
+    }
+
+    /**
+     * Remove latest sticky typed event
+     *
+     * @param type event class
+     * @return whether sticky event was removed
+     * @since 0.7.0
+     */
+    public boolean removeSticky(@NonNull Class<?> type) {
+        return this.removeSticky(type.getName());
+    }
+
+    /**
+     * Remove all sticky extras and typed events
+     *
+     * @since 0.7.0
+     */
+    public void clearSticky() {
+        this.sticky.clear();
+    }
+
+    /**
+     * Change maximum number of actions with sticky extras or typed events
+     * kept, least recently emitted or replayed ones are evicted first
+     *
+     * @param capacity maximum number of sticky actions, default to 64
+     * @throws IllegalArgumentException if capacity is not positive
+     * @since 0.7.0
+     */
+    public void setStickyCapacity(int capacity) {
+        this.sticky.resize(capacity);
+    }
+
+    /**
+     * Emit/Notify about specific action and return once all listeners
+     * were invoked on the calling thread, regardless of their {@link ThreadMode}
+     *
+     * @param action action name
+     * @param bundle additional details to be handles to receiver of the broadcast
+     * @since 0.7.0
+     */
+    public void emitSync(@NonNull String action, @NonNull Bundle bundle) {
+        if (isValidAction(action)) {
+            this.dispatcher.emitSync(action, bundle);
+        }
+    }
+
+    /**
+     * Emit/Notify about specific action and return once all listeners
+     * were invoked on the calling thread, regardless of their {@link ThreadMode}
+     *
+     * @param action action name
+     * @since 0.7.0
+     */
+    public void emitSync(@NonNull String action) {
+        if (isValidAction(action)) {
+            this.dispatcher.emitSync(action, null);
+        }
+    }
+
+    /**
+     * Emit/Notify about specific action and return once all listeners
+     * were invoked on the calling thread, building its extras only when
+     * the action has listeners
+     *
+     * @param action   action name
+     * @param supplier {@link Supplier} of additional details
+     * @since 0.7.0
+     */
+    public void emitSync(@NonNull String action, @NonNull Supplier<Bundle> supplier) {
+        if (isValidAction(action) && this.listeners.hasSubscriptions(action)) {
+            this.dispatcher.emitSync(action, supplier.get());
+        }
+    }
+
+    /**
+     * Emit/Notify typed event on its type channel and return once all
+     * listeners were invoked on the calling thread, regardless of their
+     * {@link ThreadMode}
+     *
+     * @param type  event class
+     * @param event event to be handled by listeners
+     * @param <T>   event type
+     * @since 0.7.0
+     */
+    public <T> void emitSync(@NonNull Class<T> type, @NonNull T event) {
+        this.dispatcher.emitSync(type.getName(), event);
+    }
+
+    /**
+     * Emit/Notify a batch of actions in a single dispatch pass.
+     * <p>
+     * Listeners receive events in the given order, and listeners invoked on
+     * main or background thread receive the whole batch in a single pass.
+     *
+     * @param events {@link Event}(s)
+     * @since 0.7.0
+     */
+    public void emitBatch(@NonNull Collection<Event> events) {
+        List<Event> batch = new ArrayList<Event>(events.size());
+        String action = null;
+        Registry.Topic topic = null;
+        for (Event event : events) {
+            if (event != null && isValidAction(event.action)) {
+                //resolve topic once per run of the same action
+                if (!event.action.equals(action)) {
+                    action = event.action;
+                    topic = this.listeners.find(action);
+                }
+                if (topic == null || this.pass(topic, event.payload)) {
+                    batch.add(event);
+                }
+            } else if (event != null && event.payload instanceof PooledEvent) {
+                ((PooledEvent) event.payload).recycle();
+            }
+        }
+        if (!batch.isEmpty()) {
+            this.dispatcher.emitBatch(batch);
+        }
+    }
+
+    /**
+     * Start collecting actions emitted on the calling thread into a batch,
+     * which is emitted on matching {@link #endBatch()}.
+     * <p>
+     * Batches may be nested, only the outermost {@link #endBatch()} emit
+     * collected actions. Synchronous emits are never collected.
+     *
+     * @since 0.7.0
+     */
+    public void beginBatch() {
+        Batch batch = this.batch.get();
+        if (batch.depth == 0) {
+            this.batching.incrementAndGet();
+        }
+        batch.depth++;
+    }
+
+    /**
+     * Stop collecting actions emitted on the calling thread and emit them
+     * in a single dispatch pass
+     *
+     * @see #emitBatch(Collection)
+     * @since 0.7.0
+     */
+    public void endBatch() {
+        Batch batch = this.batch.get();
+        if (batch.depth == 0) {
+            throw new IllegalStateException("endBatch() called without beginBatch()");
+        }
+        batch.depth--;
+        if (batch.depth == 0) {
+            this.batching.decrementAndGet();
+            List<Event> events = batch.events;
+            batch.events = new ArrayList<Event>();
+            if (!events.isEmpty()) {
+                this.dispatcher.emitBatch(events);
+            }
+        }
+    }
+
+    /**
+     * Change rate limiting policy applied to all emits of an action before
+     * they are dispatched.
+     * <p>
+     * Synchronous emits are not subjected to policies.
+     *
+     * @param action action name
+     * @param policy {@link Policy} or null to remove current policy
+     * @since 0.7.0
+     */
+    public void setPolicy(@NonNull String action, @Nullable Policy policy) {
+        if (isValidAction(action)) {
+            Registry.Topic topic = this.listeners.topic(action);
+            Gate gate = policy != null ? new Gate(policy, this.release) : null;
+            Gate previous;
+            synchronized (topic) {
+                previous = topic.gate;
+                topic.gate = gate;
+            }
+            if (previous != null) {
+                previous.clear();
+            }
+        }
+    }
+
+    /**
+     * Apply action policy of a resolved topic to an emit
+     *
+     * @param topic   resolved action {@link Registry.Topic}
+     * @param payload extras {@link Bundle} or typed event
+     * @return whether emit should be dispatched immediately
+     */
+    private boolean pass(@NonNull Registry.Topic topic, @Nullable Object payload) {
+        Gate gate = topic.gate;
+        if (gate == null) {
+            return true;
+        }
+
+        int result = gate.offer(topic.action, payload);
+        if (result == Gate.DROPPED && payload instanceof PooledEvent) {
+            ((PooledEvent) payload).drop();
+        }
+        return result == Gate.PASS;
+    }
+
+    /**
+     * Route valid emitted action to current {@link Dispatcher}, or collect
+     * it when calling thread is within a batch
+     *
+     * @param action  valid action name
+     * @param payload extras {@link Bundle} or typed event
+     */
+    private void dispatch(@NonNull String action, @Nullable Object payload) {
+        //resolve action topic once
+        Registry.Topic topic = this.listeners.find(action);
+        if (topic != null) {
+            this.dispatch(topic, payload);
+            return;
+        }
+
+        //collect into current thread batch
+        if (this.collect(action, payload)) {
+            return;
+        }
+
+        this.dispatcher.emit(action, payload);
+    }
+
+    /**
+     * Deliver keyed emit through serial executor of its key
+     *
+     * @param action  valid action name
+     * @param key     entity key
+     * @param payload extras {@link Bundle} or typed event
+     */
+    private void dispatch(
+            @NonNull String action, @NonNull Object key, @Nullable Object payload) {
+        //apply action policy
+        Registry.Topic topic = this.listeners.find(action);
+        if (topic != null && !this.pass(topic, payload)) {
+            return;
+        }
+
+        this.deliver(action, payload, this.schedulers.stripes().of(key));
+    }
+
+    /**
+     * Route emit of a resolved topic to current {@link Dispatcher}, or
+     * collect it when calling thread is within a batch
+     *
+     * @param topic   resolved action {@link Registry.Topic}
+     * @param payload extras {@link Bundle} or typed event
+     */
+    void dispatch(@NonNull Registry.Topic topic, @Nullable Object payload) {
+        //apply action policy
+        if (!this.pass(topic, payload)) {
+            return;
+        }
+
+        //collect into current thread batch
+        if (this.collect(topic.action, payload)) {
+            return;
+        }
+
+        this.dispatcher.emit(topic, payload);
+    }
+
+    /**
+     * Route emit of a resolved topic to current {@link Dispatcher} and
+     * return once all listeners were invoked on the calling thread
+     *
+     * @param topic   resolved action {@link Registry.Topic}
+     * @param payload extras {@link Bundle} or typed event
+     */
+    void dispatchSync(@NonNull Registry.Topic topic, @Nullable Object payload) {
+        this.dispatcher.emitSync(topic, payload);
+    }
+
+    /**
+     * Collect emit when calling thread is within a batch
+     *
+     * @param action  valid action name
+     * @param payload extras {@link Bundle} or typed event
+     * @return whether emit was collected
+     */
+    private boolean collect(@NonNull String action, @Nullable Object payload) {
+        if (this.batching.get() > 0) {
+            Batch batch = this.batch.get();
+            if (batch.depth > 0) {
+                batch.events.add(new Event(action, payload));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtain current subscriptions snapshot of a resolved topic
+     *
+     * @param topic resolved action {@link Registry.Topic}
+     * @return action subscriptions, including those of matching wildcard patterns
+     */
+    @NonNull
+    Subscription[] subscriptionsOf(@NonNull Registry.Topic topic) {
+        return this.listeners.subscriptions(topic);
+    }
+
+    /**
+     * Obtain pre-resolved {@link Channel} of an action, used to emit and
+     * subscribe without validating and looking up action each time
+     *
+     * @param action action name
+     * @return {@link Channel}
+     * @throws IllegalArgumentException if action is not valid
+     * @since 0.7.0
+     */
+    @NonNull
+    public Channel channel(@NonNull String action) {
+        if (!isValidAction(action)) {
+            throw new IllegalArgumentException("Invalid channel action");
+        }
+        return this.channelOf(this.listeners.topic(action));
+    }
+
+    /**
+     * Obtain existing {@link Channel} by its id
+     *
+     * @param id channel id
+     * @return {@link Channel} or null if no action has such id
+     * @since 0.7.0
+     */
+    @Nullable
+    public Channel channel(int id) {
+        Registry.Topic topic = this.listeners.topic(id);
+        return topic != null ? this.channelOf(topic) : null;
+    }
+
+    /**
+     * Obtain reactive streams view of an action, which honor subscribers
+     * demand instead of conflating values like {@link LiveData}
+     *
+     * @param action action name or wildcard pattern
+     * @return {@link BurstPublisher} of action extras
+     * @throws IllegalArgumentException if action is not valid
+     * @since 0.7.0
+     */
+    @NonNull
+    public BurstPublisher<Bundle> stream(@NonNull String action) {
+        if (!isValidAction(action)) {
+            throw new IllegalArgumentException("Invalid stream action");
+        }
+        return new BurstPublisher<Bundle>(
+                this, action, null, null, BurstPublisher.DEFAULT_CAPACITY, Overflow.DROP_OLDEST);
+    }
+
+    /**
+     * Obtain reactive streams view of typed events
+     * <p>
+     * Streamed events are buffered until requested hence can not be pooled.
+     *
+     * @param type event class
+     * @param <T>  event type
+     * @return {@link BurstPublisher} of events
+     * @throws IllegalArgumentException if type is a {@link PooledEvent}
+     * @since 0.7.0
+     */
+    @NonNull
+    public <T> BurstPublisher<T> stream(@NonNull Class<T> type) {
+        if (PooledEvent.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException("Pooled events can not be streamed");
+        }
+        return new BurstPublisher<T>(
+                this, null, type, null, BurstPublisher.DEFAULT_CAPACITY, Overflow.DROP_OLDEST);
+    }
+
+    /**
+     * Obtain reactive streams view of typed events emitted on an action
+     *
+     * @param action action name or wildcard pattern
+     * @param type   event class
+     * @param <T>    event type
+     * @return {@link BurstPublisher} of events
+     * @throws IllegalArgumentException if action is not valid or type is
+     *                                  a {@link PooledEvent}
+     * @since 0.7.0
+     */
+    @NonNull
+    public <T> BurstPublisher<T> stream(@NonNull String action, @NonNull Class<T> type) {
+        if (!isValidAction(action)) {
+            throw new IllegalArgumentException("Invalid stream action");
+        }
+        if (PooledEvent.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException("Pooled events can not be streamed");
+        }
+        return new BurstPublisher<T>(
+                this, action, type, null, BurstPublisher.DEFAULT_CAPACITY, Overflow.DROP_OLDEST);
+    }
+
+    @NonNull
+    private Channel channelOf(@NonNull Registry.Topic topic) {
+        Channel channel = topic.channel;
+        if (channel == null) {
+            synchronized (topic) {
+                channel = topic.channel;
+                if (channel == null) {
+                    channel = new Channel(this, topic);
+                    topic.channel = channel;
+                }
+            }
+        }
+        return channel;
+    }
+
+    /**
+     * Clear action listener(s)
+     *
+     * @param actions {@link String}
+     */
+    public void removeListeners(String... actions) {
+        Set<String> _actions = Common.Value.setOf(actions);
+        for (String action : _actions) {
+            if (isValidAction(action)) {
+                Registry.Topic topic = this.listeners.find(action);
+                if (topic != null) {
+                    topic.clear();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Clear typed event listener(s)
+     *
+     * @param type event class
+     * @since 0.7.0
+     */
+    public void removeListeners(@NonNull Class<?> type) {
+        this.removeListeners(type.getName());
+    }
+
+
+    /**
+     * Clear action listener(s)
+     *
+     * @param listeners {@link OnBroadcastListener}
+     */
+    public void removeListeners(OnBroadcastListener... listeners) {
+        Set<OnBroadcastListener> _listeners = Common.Value.setOf(listeners);
+
+        //visit only listeners own subscriptions
+        for (OnBroadcastListener listener : _listeners) {
+            for (Subscription subscription : this.listeners.subscriptionsOf(listener)) {
+                subscription.unsubscribe();
+            }
+        }
+    }
+
+    /**
+     * Obtain current subscriptions of an action listener on all actions,
+     * including wildcard patterns
+     *
+     * @param listener {@link OnBroadcastListener}
+     * @return listener {@link Subscription}(s)
+     * @since 0.7.0
+     */
+    @NonNull
+    public List<Subscription> subscriptionsOf(@NonNull OnBroadcastListener listener) {
+        return Collections.unmodifiableList(
+                Arrays.asList(this.listeners.subscriptionsOf(listener)));
+    }
+
+    /**
+     * Obtain current subscriptions of a typed event listener on all actions
+     *
+     * @param listener {@link OnEventListener}
+     * @return listener {@link Subscription}(s)
+     * @since 0.7.0
+     */
+    @NonNull
+    public List<Subscription> subscriptionsOf(@NonNull OnEventListener<?> listener) {
+        return Collections.unmodifiableList(
+                Arrays.asList(this.listeners.subscriptionsOf(listener)));
+    }
+
+
+    /**
+     * Remove all listeners and release resources
+     */
+    public void removeAllListeners() {
+        //clear listeners
+        this.listeners.clear();
+        synchronized (this.registered) {
+            this.registered.clear();
+        }
+
+        //clear action policies
+        for (Registry.Topic topic : this.listeners.topics()) {
+            if (topic.gate != null) {
+                this.setPolicy(topic.action, null);
+            }
+        }
+
+        //clear sticky payloads
+        this.sticky.clear();
+
+        //discard queued emits
+        DispatchQueue queue = this.queue;
+        if (queue != null) {
+            queue.clear();
+        }
+
+        //cancel delayed and periodic emits
+        this.timer.clear();
+    }
+
+
+    /**
+     * Clear listeners and release resources, including added
+     * {@link SubscriberIndex}(s), error handler and dispatch monitor
+     */
+    public void dispose() {
+        this.removeAllListeners();
+
+        //release application supplied references
+        synchronized (this) {
+            this.indexes = new SubscriberIndex[0];
+        }
+        this.errorHandler = null;
+        this.monitor = null;
+    }
+
+
+    /**
+     * Check is specified listener exist in set of listeners
+     *
+     * @param listeners {@link OnBroadcastListener}
+     * @return {@link Boolean}
+     */
+    public boolean hasListener(OnBroadcastListener... listeners) {
+        boolean hasListener = false;
+
+        Set<OnBroadcastListener> _listeners = Common.Value.setOf(listeners);
+
+        if (_listeners.isEmpty()) {
+            for (Registry.Topic topic : this.listeners.topics()) {
+                if (!topic.isEmpty()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        //find an action on which all listeners are subscribed, visiting
+        //only listeners own subscriptions
+        Iterator<OnBroadcastListener> iterator = _listeners.iterator();
+        Subscription[] candidates = this.listeners.subscriptionsOf(iterator.next());
+        while (iterator.hasNext() && candidates.length > 0) {
+            Subscription[] others = this.listeners.subscriptionsOf(iterator.next());
+            List<Subscription> common = new ArrayList<Subscription>();
+            for (Subscription candidate : candidates) {
+                for (Subscription other : others) {
+                    if (candidate.getAction().equals(other.getAction())) {
+                        common.add(candidate);
+                        break;
+                    }
+                }
+            }
+            candidates = common.toArray(new Subscription[0]);
+        }
+        hasListener = candidates.length > 0;
+
+        return hasListener;
+    }
+
+
+    /**
+     * Check if specified action has a set of listeners already registered
+     *
+     * @param action {@link String}
+     */
+    public boolean hasListener(String action) {
+        boolean hasListener = false;
+
+        if (isValidAction(action)) {
+            hasListener = this.listeners.hasSubscriptions(action);
+        }
+
+        return hasListener;
+    }
+
+
+    /**
+     * Ensure action is not null or empty
+     *
+     * @param action action name
+     * @return whether action is valid
+     */
+    private Boolean isValidAction(String action) {
+        return !Common.Strings.isEmpty(action);
+    }
+
+
+    /**
+     * Create {@link Dispatcher} for a given {@link Mode}
+     *
+     * @param mode {@link Mode}
+     * @return {@link Dispatcher}
+     */
+    @NonNull
+    private Dispatcher createDispatcher(@NonNull Mode mode) {
+        if (mode == Mode.BROADCAST) {
+            return new BroadcastDispatcher(this, this.localBroadcastManager);
+        }
+        return new DirectDispatcher(this);
+    }
+
+
+    /**
+     * Available modes used to dispatch actions to listeners
+     *
+     * @since 0.7.0
+     */
+    public enum Mode {
+        /**
+         * Route actions straight to in-process listeners without
+         * {@link android.content.Intent} allocation and
+         * {@link android.content.IntentFilter} matching.
+         * <p>
+         * Main thread listeners of an emit from main thread are invoked
+         * inline, before emit returns, and may re-enter the emitter.
+         */
+        DIRECT,
+
+        /**
+         * Route actions through {@link LocalBroadcastManager} for compatibility,
+         * where listeners are invoked on a later main looper message
+         */
+        BROADCAST
+    }
+
+
+    /**
+     * A listener interface to handle errors thrown by listeners
+     *
+     * @since 0.7.0
+     */
+    public interface OnErrorListener {
+        /**
+         * Handle error thrown by a listener, invoked on listener thread
+         *
+         * @param action   action being handled
+         * @param listener failed {@link OnBroadcastListener} or {@link OnEventListener}
+         * @param error    thrown error
+         */
+        void onError(@NonNull String action, @NonNull Object listener,
+                     @NonNull RuntimeException error);
+    }
+
+    /**
+     * A listener interface which receivers have to implement in order
+     * to be invoked when broadcast is sent
+     */
+    public interface OnBroadcastListener {
+        /**
          * Receive local broadcast and process it
          *
          * @param action name of the action to listen on
-         * @param extras intent extras received from the action
+         * @param extras intent extras received from the action, shared with other
+         *               action listeners and must be treated as read-only unless
+         *               subscribed with {@link Options.Builder#copyExtras(boolean)}
          */
         void onBroadcast(@NonNull String action, @NonNull Bundle extras);
     }
 
     /**
-     * A {@see LiveData} class which wraps the {@link OnBroadcastListener}.
+     * Actions collected between {@link #beginBatch()} and {@link #endBatch()}
+     */
+    private static final class Batch {
+        private int depth;
+        private List<Event> events = new ArrayList<Event>();
+    }
+
+    /**
+     * A listener interface which typed event receivers have to implement
+     * in order to be invoked when event is emitted
      *
-     * @since 0.6.0
+     * @param <T> event type
+     * @since 0.7.0
+     */
+    public interface OnEventListener<T> {
+        /**
+         * Receive typed event and process it
+         *
+         * @param event emitted event, which must not be retained if it is
+         *              a {@link PooledEvent}
+         */
+        void onEvent(@NonNull T event);
+    }
+
+    /**
+     * A supplier interface of lazily built extras or typed events, invoked
+     * only when emitted action has listeners
+     *
+     * @param <T> payload type
+     * @since 0.7.0
+     */
+    public interface Supplier<T> {
+        /**
+         * Build payload to be emitted
+         *
+         * @return extras or typed event
+         */
+        @NonNull
+        T get();
+    }
+
+    /**
+     * A {@see LiveData} class shared by all observers of an action, which
+     * subscribe once when first observer become active and unsubscribe
+     * its own listener when last observer become inactive.
+     * <p>
+     * Values are set on main thread as they are delivered, so active
+     * observers are notified about every emit. Once last observer is
+     * removed, it is released by its owning {@link LocalBurst}.
+     *
+     * @since 0.7.0
      */
-    private static class LocalBroadcastLiveData extends LiveData<Bundle> {
+    private abstract static class BurstLiveData<T> extends LiveData<T> {
         // refs
-        private String action;
-        private OnBroadcastListener listener = (action, extras) -> postValue(extras);
+        final LocalBurst burst;
+        private final String key;
+        private Subscription subscription;
 
-        public LocalBroadcastLiveData(@NonNull String action) {
-            this.action = action;
+        BurstLiveData(@NonNull LocalBurst burst, @NonNull String key) {
+            this.burst = burst;
+            this.key = key;
+        }
+
+        /**
+         * Subscribe to observed action
+         *
+         * @return {@link Subscription} or null if action is not valid
+         */
+        @Nullable
+        abstract Subscription subscribe();
+
+        /**
+         * Notify observers about delivered value
+         *
+         * @param value delivered value
+         */
+        void publish(T value) {
+            if (Looper.myLooper() == Looper.getMainLooper()) {
+                setValue(value);
+            } else {
+                postValue(value);
+            }
         }
 
         @Override
         protected void onActive() {
             super.onActive();
-            LocalBurst.$on(this.action, listener);
+            if (this.subscription == null || !this.subscription.isActive()) {
+                this.subscription = this.subscribe();
+            }
         }
 
         @Override
         protected void onInactive() {
             super.onInactive();
-            LocalBurst.$removeListeners(this.action);
+            if (this.subscription != null) {
+                this.subscription.unsubscribe();
+                this.subscription = null;
+            }
+        }
+
+        @Override
+        public void removeObserver(@NonNull Observer<? super T> observer) {
+            super.removeObserver(observer);
+            if (!hasObservers()) {
+                this.burst.releaseLiveData(this.key, this);
+            }
+        }
+    }
+
+    /**
+     * A {@see LiveData} class which wraps the {@link OnEventListener}.
+     *
+     * @since 0.7.0
+     */
+    private static class EventLiveData<T> extends BurstLiveData<T> {
+        // refs
+        private Class<T> type;
+        private OnEventListener<T> listener = event -> publish(event);
+
+        EventLiveData(@NonNull LocalBurst burst, @NonNull String key, @NonNull Class<T> type) {
+            super(burst, key);
+            this.type = type;
+        }
+
+        @Nullable
+        @Override
+        Subscription subscribe() {
+            return this.burst.subscribe(this.type, listener);
+        }
+    }
+
+    /**
+     * A {@see LiveData} class which wraps the {@link OnBroadcastListener}.
+     *
+     * @since 0.6.0
+     */
+    private static class LocalBroadcastLiveData extends BurstLiveData<Bundle> {
+        // refs
+        private String action;
+        private Options options;
+        private OnBroadcastListener listener = (action, extras) -> publish(extras);
+
+        LocalBroadcastLiveData(
+                @NonNull LocalBurst burst, @NonNull String key,
+                @NonNull String action, boolean latest) {
+            super(burst, key);
+            this.action = action;
+            this.options = latest
+                    ? new Options.Builder().policy(Policy.latest()).build()
+                    : Options.DEFAULT;
+        }
+
+        @Nullable
+        @Override
+        Subscription subscribe() {
+            return this.burst.subscribe(this.action, this.options, listener);
         }
     }
 }
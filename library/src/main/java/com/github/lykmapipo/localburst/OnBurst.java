@@ -0,0 +1,53 @@
+package com.github.lykmapipo.localburst;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark a method as handler of one or more actions, to be subscribed by
+ * {@link LocalBurst#register(Object)}.
+ * <p>
+ * Handlers are indexed at build time by the localburst annotation
+ * processor, which generate direct call dispatch stubs, hence annotated
+ * methods and their classes must be public and methods must not be static.
+ * Supported handler signatures are:
+ * <ul>
+ * <li>{@code void onSync()}</li>
+ * <li>{@code void onSync(Bundle extras)}</li>
+ * <li>{@code void onSync(String action, Bundle extras)}</li>
+ * <li>{@code void onUser(User event)}, for typed events on action or on
+ * event type channel when no action is given</li>
+ * </ul>
+ *
+ * @see SubscriberIndex
+ * @since 0.7.0
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface OnBurst {
+    /**
+     * Handled actions or wildcard patterns, which may be empty for typed
+     * events emitted on their type channel
+     *
+     * @return action names
+     */
+    String[] value() default {};
+
+    /**
+     * Thread on which handler is invoked
+     *
+     * @return {@link ThreadMode}
+     */
+    ThreadMode threadMode() default ThreadMode.MAIN;
+
+    /**
+     * Handler priority, higher priority handlers are invoked first
+     *
+     * @return priority
+     */
+    int priority() default 0;
+}
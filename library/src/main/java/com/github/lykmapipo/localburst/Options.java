@@ -0,0 +1,229 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Delivery options of a {@link Subscription}
+ *
+ * @since 0.7.0
+ */
+public final class Options {
+    /**
+     * default delivery options
+     */
+    public static final Options DEFAULT = new Builder().build();
+
+    /**
+     * whether listener receive its own copy of extras
+     */
+    final boolean copyExtras;
+
+    /**
+     * thread on which listener is invoked
+     */
+    final ThreadMode threadMode;
+
+    /**
+     * rate limiting {@link Policy} or null
+     */
+    @Nullable
+    final Policy policy;
+
+    /**
+     * whether listener is weakly referenced
+     */
+    final boolean weak;
+
+    /**
+     * consecutive failures after which listener is unsubscribed, or zero
+     */
+    final int maxFailures;
+
+    /**
+     * delivery priority, higher first
+     */
+    final int priority;
+
+    private Options(@NonNull Builder builder) {
+        this.copyExtras = builder.copyExtras;
+        this.threadMode = builder.threadMode;
+        this.policy = builder.policy;
+        this.weak = builder.weak;
+        this.maxFailures = builder.maxFailures;
+        this.priority = builder.priority;
+    }
+
+    /**
+     * Check if listener receive its own copy of extras
+     *
+     * @return whether extras are copied per listener
+     */
+    public boolean isCopyExtras() {
+        return this.copyExtras;
+    }
+
+    /**
+     * Obtain thread on which listener is invoked
+     *
+     * @return {@link ThreadMode}
+     */
+    @NonNull
+    public ThreadMode getThreadMode() {
+        return this.threadMode;
+    }
+
+    /**
+     * Obtain rate limiting policy
+     *
+     * @return {@link Policy} or null
+     */
+    @Nullable
+    public Policy getPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * Check if listener is weakly referenced
+     *
+     * @return whether listener is weakly referenced
+     */
+    public boolean isWeak() {
+        return this.weak;
+    }
+
+    /**
+     * Obtain consecutive failures after which listener is unsubscribed
+     *
+     * @return maximum consecutive failures, or zero if never unsubscribed
+     */
+    public int getMaxFailures() {
+        return this.maxFailures;
+    }
+
+    /**
+     * Obtain delivery priority
+     *
+     * @return priority, higher are delivered first
+     */
+    public int getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * {@link Options} builder
+     */
+    public static final class Builder {
+        private boolean copyExtras;
+        private ThreadMode threadMode = ThreadMode.MAIN;
+        private Policy policy;
+        private boolean weak;
+        private int maxFailures;
+        private int priority;
+
+        /**
+         * Deliver a defensive copy of extras to the listener.
+         * <p>
+         * By default all listeners of an action share a single read-only
+         * extras {@link android.os.Bundle}. Enable copy for listeners which
+         * have to modify received extras.
+         *
+         * @param copyExtras whether to copy extras
+         * @return {@link Builder}
+         */
+        @NonNull
+        public Builder copyExtras(boolean copyExtras) {
+            this.copyExtras = copyExtras;
+            return this;
+        }
+
+        /**
+         * Set thread on which listener is invoked, default to {@link ThreadMode#MAIN}
+         *
+         * @param threadMode {@link ThreadMode}
+         * @return {@link Builder}
+         */
+        @NonNull
+        public Builder threadMode(@NonNull ThreadMode threadMode) {
+            this.threadMode = threadMode;
+            return this;
+        }
+
+        /**
+         * Set rate limiting policy applied to emits before they reach the listener.
+         * <p>
+         * Held payloads are released from main thread and then delivered
+         * based on listener {@link ThreadMode}.
+         *
+         * @param policy {@link Policy} or null for none
+         * @return {@link Builder}
+         */
+        @NonNull
+        public Builder policy(@Nullable Policy policy) {
+            this.policy = policy;
+            return this;
+        }
+
+        /**
+         * Hold listener with a weak reference.
+         * <p>
+         * Subscriptions of garbage collected listeners are removed on next
+         * dispatch, hence the caller must keep a strong reference to the
+         * listener for as long as it should receive broadcasts.
+         *
+         * @param weak whether to weakly reference listener
+         * @return {@link Builder}
+         */
+        @NonNull
+        public Builder weak(boolean weak) {
+            this.weak = weak;
+            return this;
+        }
+
+        /**
+         * Unsubscribe listener once it has thrown on a number of consecutive
+         * broadcasts, so that a failing listener stop degrading dispatch.
+         * <p>
+         * Each error is still reported, see {@link LocalBurst#setErrorHandler}.
+         *
+         * @param maxFailures consecutive failures, or zero to never unsubscribe
+         * @return {@link Builder}
+         * @throws IllegalArgumentException if maxFailures is negative
+         */
+        @NonNull
+        public Builder maxFailures(int maxFailures) {
+            if (maxFailures < 0) {
+                throw new IllegalArgumentException("Max failures must not be negative");
+            }
+            this.maxFailures = maxFailures;
+            return this;
+        }
+
+        /**
+         * Set delivery priority, default to zero.
+         * <p>
+         * Listeners of an action are invoked in descending priority, and in
+         * registration order within the same priority. A listener may stop
+         * lower priority listeners from receiving a broadcast using
+         * {@link LocalBurst#consume()}.
+         *
+         * @param priority delivery priority
+         * @return {@link Builder}
+         */
+        @NonNull
+        public Builder priority(int priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * Build {@link Options}
+         *
+         * @return {@link Options}
+         */
+        @NonNull
+        public Options build() {
+            return new Options(this);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.lykmapipo.localburst;
+
+/**
+ * What a bounded {@link DispatchQueue} does when an emit arrives while
+ * it is full
+ *
+ * @since 0.7.0
+ */
+public enum Overflow {
+    /**
+     * Block emitting thread until there is room. When emitting from main
+     * thread, oldest queued emit is delivered inline instead.
+     */
+    BLOCK,
+
+    /**
+     * Discard oldest queued emit to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Discard the new emit.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Replace queued emit of the same action with the new one, regardless
+     * of queue being full. When full and no emit of the same action is
+     * queued, discard oldest queued emit.
+     */
+    CONFLATE
+}
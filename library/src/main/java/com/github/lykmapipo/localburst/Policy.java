@@ -0,0 +1,124 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+
+/**
+ * Rate limiting policy applied to emitted actions before they are
+ * dispatched, either for a whole action or for a single {@link Subscription}.
+ * <p>
+ * Superseded or dropped {@link PooledEvent}(s) are recycled.
+ *
+ * @since 0.7.0
+ */
+public final class Policy {
+    /**
+     * Available policy kinds
+     */
+    public enum Kind {
+        /**
+         * Only deliver latest emitted payload once main thread is free
+         */
+        LATEST,
+
+        /**
+         * Only deliver latest emitted payload once no emits happened for a window
+         */
+        DEBOUNCE,
+
+        /**
+         * Deliver first emitted payload and drop others for a window
+         */
+        THROTTLE_FIRST,
+
+        /**
+         * Deliver latest emitted payload at most once per period
+         */
+        SAMPLE
+    }
+
+    /**
+     * policy kind
+     */
+    final Kind kind;
+
+    /**
+     * window or period in milliseconds
+     */
+    final long window;
+
+    private Policy(@NonNull Kind kind, long window) {
+        this.kind = kind;
+        this.window = window;
+    }
+
+    /**
+     * Conflate emits so that only latest payload is delivered on next
+     * main looper pass
+     *
+     * @return {@link Policy}
+     */
+    @NonNull
+    public static Policy latest() {
+        return new Policy(Kind.LATEST, 0);
+    }
+
+    /**
+     * Deliver latest payload only once no emits happened for a given window
+     *
+     * @param windowMillis quiet window in milliseconds
+     * @return {@link Policy}
+     */
+    @NonNull
+    public static Policy debounce(@IntRange(from = 1) long windowMillis) {
+        return new Policy(Kind.DEBOUNCE, requirePositive(windowMillis));
+    }
+
+    /**
+     * Deliver first payload and drop following ones for a given window
+     *
+     * @param windowMillis window in milliseconds
+     * @return {@link Policy}
+     */
+    @NonNull
+    public static Policy throttleFirst(@IntRange(from = 1) long windowMillis) {
+        return new Policy(Kind.THROTTLE_FIRST, requirePositive(windowMillis));
+    }
+
+    /**
+     * Deliver latest payload at most once per given period
+     *
+     * @param periodMillis period in milliseconds
+     * @return {@link Policy}
+     */
+    @NonNull
+    public static Policy sample(@IntRange(from = 1) long periodMillis) {
+        return new Policy(Kind.SAMPLE, requirePositive(periodMillis));
+    }
+
+    /**
+     * Obtain policy kind
+     *
+     * @return {@link Kind}
+     */
+    @NonNull
+    public Kind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Obtain policy window or period in milliseconds
+     *
+     * @return window in milliseconds
+     */
+    public long getWindow() {
+        return this.window;
+    }
+
+    private static long requirePositive(long window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("window must be greater than 0");
+        }
+        return window;
+    }
+}
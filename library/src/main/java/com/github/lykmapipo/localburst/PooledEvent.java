@@ -0,0 +1,71 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Base class of typed events which can be obtained from and recycled
+ * into an {@link EventPool}, so that hot events can be emitted without
+ * allocation in steady state.
+ * <p>
+ * Emitted pooled events are recycled by {@link LocalBurst} once delivered
+ * to all listeners, including those invoked on other threads, hence
+ * listeners must not keep references to them.
+ *
+ * @since 0.7.0
+ */
+public abstract class PooledEvent {
+    /**
+     * owning {@link EventPool}
+     */
+    @Nullable
+    EventPool<?> pool;
+
+    /**
+     * number of pending deliveries
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Clear event state before it is returned to its pool
+     */
+    protected abstract void reset();
+
+    /**
+     * Mark start of a pending delivery
+     */
+    final void retain() {
+        this.pending.incrementAndGet();
+    }
+
+    /**
+     * Mark end of a pending delivery, recycle event once none is pending
+     */
+    final void release() {
+        if (this.pending.decrementAndGet() <= 0) {
+            this.recycle();
+        }
+    }
+
+    /**
+     * Recycle event unless it is pending delivery
+     */
+    final void drop() {
+        if (this.pending.get() <= 0) {
+            this.recycle();
+        }
+    }
+
+    /**
+     * Return event to its owning {@link EventPool}
+     */
+    public final void recycle() {
+        EventPool<?> pool = this.pool;
+        if (pool != null) {
+            this.pending.set(0);
+            this.pool = null;
+            pool.release(this);
+        }
+    }
+}
@@ -0,0 +1,661 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent registry of action {@link Subscription}(s).
+ * <p>
+ * Each action owns a copy-on-write array of subscriptions, sorted by
+ * priority at registration. Registration and removal copy the array under
+ * the action lock, while dispatch reads the current array without any locking.
+ * <p>
+ * Wildcard patterns, such as {@code sync/*} or {@code sync/**}, are topics
+ * too, and their subscriptions are added to those of every matching action.
+ * They are not reported to {@link Callback}, since no dispatcher can
+ * subscribe to a pattern.
+ * <p>
+ * Subscriptions are also indexed per listener, so that removing a listener
+ * or checking its membership only visit that listener own subscriptions,
+ * regardless of number of actions.
+ *
+ * @since 0.7.0
+ */
+final class Registry {
+    /**
+     * empty subscriptions array
+     */
+    static final Subscription[] EMPTY = new Subscription[0];
+
+    /**
+     * known action {@link Topic}(s)
+     */
+    private final ConcurrentHashMap<String, Topic> topics =
+            new ConcurrentHashMap<String, Topic>();
+
+    /**
+     * {@link Callback} notified when action gain first or lose last subscription
+     */
+    private final Callback callback;
+
+    /**
+     * known {@link Topic}(s) indexed by their id, guarded by this
+     */
+    private volatile Topic[] table = new Topic[16];
+
+    /**
+     * number of known topics, hence next topic id, guarded by this
+     */
+    private int count;
+
+    /**
+     * subscriptions per listener
+     */
+    private final Index index = new Index();
+
+    /**
+     * registered wildcard pattern {@link Topic}(s)
+     */
+    private final Wildcards wildcards = new Wildcards();
+
+    /**
+     * no-op {@link Callback} of wildcard pattern topics
+     */
+    private static final Callback NONE = new Callback() {
+        @Override
+        public void onActive(@NonNull String action) {
+        }
+
+        @Override
+        public void onInactive(@NonNull String action) {
+        }
+    };
+
+    /**
+     * Construct registry
+     *
+     * @param callback {@link Callback}
+     */
+    Registry(@NonNull Callback callback) {
+        this.callback = callback;
+    }
+
+    /**
+     * Obtain existing or create {@link Topic} for a given action
+     *
+     * @param action valid action name
+     * @return {@link Topic}
+     */
+    @NonNull
+    Topic topic(@NonNull String action) {
+        Topic topic = this.topics.get(action);
+        if (topic == null) {
+            synchronized (this) {
+                topic = this.topics.get(action);
+                if (topic == null) {
+                    boolean pattern = Wildcards.isPattern(action);
+                    topic = new Topic(
+                            action, pattern ? NONE : this.callback, this.index, this.count);
+                    Topic[] table = this.table;
+                    if (this.count == table.length) {
+                        table = Arrays.copyOf(table, table.length * 2);
+                    }
+                    table[this.count++] = topic;
+                    this.table = table;
+                    this.topics.put(action, topic);
+                    if (pattern) {
+                        this.wildcards.add(topic);
+                    }
+                }
+            }
+        }
+        return topic;
+    }
+
+    /**
+     * Obtain existing {@link Topic} by its id without locking
+     *
+     * @param id topic id
+     * @return {@link Topic} or null
+     */
+    @Nullable
+    Topic topic(int id) {
+        Topic[] table = this.table;
+        return id >= 0 && id < table.length ? table[id] : null;
+    }
+
+    /**
+     * Obtain existing {@link Topic} for a given action
+     *
+     * @param action valid action name
+     * @return {@link Topic} or null
+     */
+    @Nullable
+    Topic find(@NonNull String action) {
+        return this.topics.get(action);
+    }
+
+    /**
+     * Obtain current subscriptions snapshot of a given action without locking,
+     * including subscriptions of matching wildcard patterns
+     *
+     * @param action valid action name
+     * @return action subscriptions
+     */
+    @NonNull
+    Subscription[] subscriptions(@NonNull String action) {
+        Topic topic = this.topics.get(action);
+        if (topic != null) {
+            return this.subscriptions(topic);
+        }
+        if (this.wildcards.isEmpty()) {
+            return EMPTY;
+        }
+        return merge(EMPTY, null, this.wildcards.match(action));
+    }
+
+    /**
+     * Check whether an emit of an action would reach any subscription,
+     * including subscriptions of matching wildcard patterns, without
+     * merging them
+     *
+     * @param action action name
+     * @return whether action has subscriptions
+     */
+    boolean hasSubscriptions(@NonNull String action) {
+        Topic topic = this.topics.get(action);
+        if (topic != null && topic.subscriptions.length > 0) {
+            return true;
+        }
+        if (this.wildcards.isEmpty()) {
+            return false;
+        }
+
+        Topic[] patterns = topic != null
+                ? this.wildcards.match(topic) : this.wildcards.match(action);
+        for (Topic pattern : patterns) {
+            if (pattern.subscriptions.length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtain current subscriptions snapshot of a given topic without locking
+     * or hashing, including subscriptions of matching wildcard patterns
+     *
+     * @param topic {@link Topic}
+     * @return action subscriptions
+     */
+    @NonNull
+    Subscription[] subscriptions(@NonNull Topic topic) {
+        if (this.wildcards.isEmpty()) {
+            return topic.subscriptions;
+        }
+        return merge(topic.subscriptions, topic, this.wildcards.match(topic));
+    }
+
+    /**
+     * Append subscriptions of matching wildcard patterns
+     *
+     * @param subscriptions action subscriptions
+     * @param topic         action {@link Topic} or null
+     * @param patterns      matching wildcard pattern {@link Topic}(s)
+     * @return all subscriptions
+     */
+    @NonNull
+    private static Subscription[] merge(
+            @NonNull Subscription[] subscriptions, @Nullable Topic topic,
+            @NonNull Topic[] patterns) {
+        for (Topic pattern : patterns) {
+            Subscription[] matched = pattern.subscriptions;
+            if (pattern == topic || matched.length == 0) {
+                continue;
+            }
+            if (subscriptions.length == 0) {
+                subscriptions = matched;
+            } else {
+                subscriptions = merge(subscriptions, matched);
+            }
+        }
+        return subscriptions;
+    }
+
+    /**
+     * Merge two priority sorted subscriptions arrays, keeping priority order
+     *
+     * @param first  sorted subscriptions, preferred on equal priority
+     * @param second sorted subscriptions
+     * @return sorted subscriptions
+     */
+    @NonNull
+    private static Subscription[] merge(
+            @NonNull Subscription[] first, @NonNull Subscription[] second) {
+        Subscription[] merged = new Subscription[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < first.length && j < second.length) {
+            merged[k++] = first[i].options.priority >= second[j].options.priority
+                    ? first[i++] : second[j++];
+        }
+        while (i < first.length) {
+            merged[k++] = first[i++];
+        }
+        while (j < second.length) {
+            merged[k++] = second[j++];
+        }
+        return merged;
+    }
+
+    /**
+     * Obtain all actions, excluding wildcard patterns, which currently
+     * have subscriptions
+     *
+     * @return actions
+     */
+    @NonNull
+    List<String> actions() {
+        List<String> actions = new ArrayList<String>();
+        for (Topic topic : this.topics.values()) {
+            if (!topic.isEmpty() && topic.callback != NONE) {
+                actions.add(topic.action);
+            }
+        }
+        return actions;
+    }
+
+    /**
+     * Obtain current subscriptions of a listener on all actions, including
+     * wildcard patterns
+     *
+     * @param listener listener
+     * @return listener subscriptions
+     */
+    @NonNull
+    Subscription[] subscriptionsOf(@NonNull Object listener) {
+        return this.index.get(listener);
+    }
+
+    /**
+     * Obtain all known {@link Topic}(s)
+     *
+     * @return topics
+     */
+    @NonNull
+    Collection<Topic> topics() {
+        return this.topics.values();
+    }
+
+    /**
+     * Remove all subscriptions from all actions
+     */
+    void clear() {
+        for (Topic topic : this.topics.values()) {
+            topic.clear();
+        }
+    }
+
+    /**
+     * Receive action subscription count transitions
+     */
+    interface Callback {
+        /**
+         * Invoked when action gain its first subscription
+         *
+         * @param action action name
+         */
+        void onActive(@NonNull String action);
+
+        /**
+         * Invoked when action lose its last subscription
+         *
+         * @param action action name
+         */
+        void onInactive(@NonNull String action);
+    }
+
+    /**
+     * Reverse index of subscriptions per listener.
+     * <p>
+     * Like topics, each listener owns a copy-on-write array of its
+     * subscriptions, so that lookups do not lock. Index is updated under
+     * the lock of the changed topic, then under index lock, hence it is
+     * consistent with topics once registration or removal returns.
+     * <p>
+     * Weakly referenced listeners are not used as keys, which would retain
+     * them, and are instead bucketed by their hash code, so that lookups
+     * only scan subscriptions of listeners sharing that hash code.
+     */
+    static final class Index {
+        /**
+         * subscriptions of strongly referenced listeners
+         */
+        private final ConcurrentHashMap<Object, Subscription[]> listeners =
+                new ConcurrentHashMap<Object, Subscription[]>();
+
+        /**
+         * subscriptions of weakly referenced listeners per listener hash code
+         */
+        private final ConcurrentHashMap<Integer, Subscription[]> weak =
+                new ConcurrentHashMap<Integer, Subscription[]>();
+
+        /**
+         * Index a new subscription
+         *
+         * @param subscription {@link Subscription}
+         * @param listener     subscribed listener
+         */
+        synchronized void add(@NonNull Subscription subscription, @NonNull Object listener) {
+            if (subscription.options.weak) {
+                Subscription[] current = this.weak.get(subscription.hash);
+                this.weak.put(subscription.hash,
+                        append(current != null ? current : EMPTY, subscription));
+                return;
+            }
+            Subscription[] current = this.listeners.get(listener);
+            this.listeners.put(listener, append(current != null ? current : EMPTY, subscription));
+        }
+
+        /**
+         * Remove subscription from index
+         *
+         * @param subscription {@link Subscription}
+         */
+        synchronized void remove(@NonNull Subscription subscription) {
+            if (subscription.options.weak) {
+                remove(this.weak, subscription.hash, subscription);
+                return;
+            }
+            Object listener = subscription.listener();
+            if (listener != null) {
+                remove(this.listeners, listener, subscription);
+            }
+        }
+
+        /**
+         * Obtain current subscriptions of a listener without locking
+         *
+         * @param listener listener
+         * @return listener subscriptions
+         */
+        @NonNull
+        Subscription[] get(@NonNull Object listener) {
+            Subscription[] strong = this.listeners.get(listener);
+            Subscription[] found = strong != null ? strong : EMPTY;
+            if (this.weak.isEmpty()) {
+                return found;
+            }
+
+            //only visit weak subscriptions of listeners sharing hash code
+            Subscription[] weak = this.weak.get(listener.hashCode());
+            if (weak != null) {
+                for (Subscription subscription : weak) {
+                    if (listener.equals(subscription.listener())) {
+                        found = append(found, subscription);
+                    }
+                }
+            }
+            return found;
+        }
+
+        private static <K> void remove(
+                @NonNull ConcurrentHashMap<K, Subscription[]> buckets, @NonNull K key,
+                @NonNull Subscription subscription) {
+            Subscription[] current = buckets.get(key);
+            if (current != null) {
+                Subscription[] next = without(current, subscription);
+                if (next.length == 0) {
+                    buckets.remove(key);
+                } else {
+                    buckets.put(key, next);
+                }
+            }
+        }
+
+        @NonNull
+        private static Subscription[] append(
+                @NonNull Subscription[] current, @NonNull Subscription subscription) {
+            Subscription[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = subscription;
+            return next;
+        }
+
+        @NonNull
+        private static Subscription[] without(
+                @NonNull Subscription[] current, @NonNull Subscription subscription) {
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == subscription) {
+                    if (current.length == 1) {
+                        return EMPTY;
+                    }
+                    Subscription[] next = new Subscription[current.length - 1];
+                    System.arraycopy(current, 0, next, 0, i);
+                    System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                    return next;
+                }
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Action subscriptions holder.
+     * <p>
+     * Topics are interned per action and never removed, so that readers
+     * holding a topic reference always observe its latest subscriptions.
+     * {@link Callback} is invoked under topic lock so that transitions
+     * of the same action are always observed in order.
+     */
+    static final class Topic {
+        /**
+         * action name
+         */
+        final String action;
+
+        /**
+         * topic id, unique per {@link Registry}
+         */
+        final int id;
+
+        /**
+         * {@link Channel} handle, created on first request
+         */
+        @Nullable
+        volatile Channel channel;
+
+        /**
+         * current subscriptions snapshot
+         */
+        volatile Subscription[] subscriptions = EMPTY;
+
+        /**
+         * action {@link Gate} or null
+         */
+        @Nullable
+        volatile Gate gate;
+
+        /**
+         * matching wildcard pattern topics, cached by {@link Wildcards}
+         */
+        volatile Topic[] matches;
+
+        /**
+         * {@link Wildcards} version of cached matches
+         */
+        volatile int matched = -1;
+
+        /**
+         * {@link Callback} notified on subscription count transitions
+         */
+        private final Callback callback;
+
+        /**
+         * registry {@link Index} of subscriptions per listener
+         */
+        private final Index index;
+
+        Topic(@NonNull String action, @NonNull Callback callback, @NonNull Index index, int id) {
+            this.action = action;
+            this.id = id;
+            this.callback = callback;
+            this.index = index;
+        }
+
+        /**
+         * Subscribe listener if not already subscribed
+         *
+         * @param listener {@link LocalBurst.OnBroadcastListener}
+         * @param options  {@link Options}
+         * @return new or existing {@link Subscription}
+         */
+        @NonNull
+        Subscription add(
+                @NonNull LocalBurst.OnBroadcastListener listener, @NonNull Options options) {
+            return this.add(listener, null, options);
+        }
+
+        /**
+         * Subscribe listener if not already subscribed
+         *
+         * @param listener {@link LocalBurst.OnBroadcastListener} or
+         *                 {@link LocalBurst.OnEventListener}
+         * @param type     typed event class or null for extras listener
+         * @param options  {@link Options}
+         * @return new or existing {@link Subscription}
+         */
+        @NonNull
+        synchronized Subscription add(
+                @NonNull Object listener, @Nullable Class<?> type, @NonNull Options options) {
+            Subscription[] current = this.subscriptions;
+            int index = indexOf(current, listener);
+            if (index >= 0) {
+                return current[index];
+            }
+            Subscription subscription = new Subscription(this, listener, type, options);
+
+            //keep subscriptions sorted by priority, then registration order
+            int position = current.length;
+            while (position > 0 && current[position - 1].options.priority < options.priority) {
+                position--;
+            }
+            Subscription[] next = new Subscription[current.length + 1];
+            System.arraycopy(current, 0, next, 0, position);
+            next[position] = subscription;
+            System.arraycopy(current, position, next, position + 1, current.length - position);
+            this.subscriptions = next;
+            this.index.add(subscription, listener);
+            if (current.length == 0) {
+                this.callback.onActive(this.action);
+            }
+            return subscription;
+        }
+
+        /**
+         * Remove listener subscription if subscribed
+         *
+         * @param listener listener
+         * @return whether listener was removed
+         */
+        boolean remove(@NonNull Object listener) {
+            Subscription subscription = this.find(listener);
+            return subscription != null && this.remove(subscription);
+        }
+
+        /**
+         * Remove subscription if still subscribed
+         *
+         * @param subscription {@link Subscription}
+         * @return whether subscription was removed
+         */
+        synchronized boolean remove(@NonNull Subscription subscription) {
+            Subscription[] current = this.subscriptions;
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == subscription) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return false;
+            }
+            subscription.active = false;
+            this.index.remove(subscription);
+            if (current.length == 1) {
+                this.subscriptions = EMPTY;
+                this.callback.onInactive(this.action);
+                return true;
+            }
+            Subscription[] next = new Subscription[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            this.subscriptions = next;
+            return true;
+        }
+
+        /**
+         * Remove all subscriptions
+         */
+        synchronized void clear() {
+            Subscription[] current = this.subscriptions;
+            if (current.length > 0) {
+                for (Subscription subscription : current) {
+                    subscription.active = false;
+                    this.index.remove(subscription);
+                }
+                this.subscriptions = EMPTY;
+                this.callback.onInactive(this.action);
+            }
+        }
+
+        /**
+         * Find listener subscription
+         *
+         * @param listener listener
+         * @return {@link Subscription} or null
+         */
+        @Nullable
+        Subscription find(@NonNull Object listener) {
+            Subscription[] current = this.subscriptions;
+            int index = indexOf(current, listener);
+            return index >= 0 ? current[index] : null;
+        }
+
+        /**
+         * Check if listener is subscribed
+         *
+         * @param listener listener
+         * @return whether listener is subscribed
+         */
+        boolean contains(@NonNull Object listener) {
+            return indexOf(this.subscriptions, listener) >= 0;
+        }
+
+        /**
+         * Check if topic has no subscriptions
+         *
+         * @return whether topic has no subscriptions
+         */
+        boolean isEmpty() {
+            return this.subscriptions.length == 0;
+        }
+
+        private static int indexOf(
+                @NonNull Subscription[] subscriptions, @NonNull Object listener) {
+            for (int i = 0; i < subscriptions.length; i++) {
+                if (listener.equals(subscriptions[i].listener())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Handle of a delayed or periodic emit, used to cancel it before it is due.
+ * <p>
+ * Each handle is linked directly into a slot of {@link LocalBurst} timing
+ * wheel, so that scheduling and cancelling do not search pending emits.
+ *
+ * @see LocalBurst#emitDelayed
+ * @see LocalBurst#emitAtFixedRate
+ * @since 0.7.0
+ */
+public final class Scheduled {
+    /**
+     * waiting in timing wheel or, when periodic, between emits
+     */
+    static final int ACTIVE = 0;
+
+    /**
+     * one off emit handed over to be emitted
+     */
+    static final int DONE = 1;
+
+    /**
+     * cancelled before being due
+     */
+    static final int CANCELLED = 2;
+
+    private final TimingWheel wheel;
+
+    /**
+     * action name
+     */
+    @NonNull
+    final String action;
+
+    /**
+     * extras {@link android.os.Bundle} or typed event
+     */
+    @Nullable
+    final Object payload;
+
+    /**
+     * nanoseconds between emits, or zero for one off emit
+     */
+    final long period;
+
+    /**
+     * when due, in nanoseconds since timing wheel started
+     */
+    long deadline;
+
+    /**
+     * absolute wheel tick when due
+     */
+    long tick;
+
+    /**
+     * neighbours within wheel slot, guarded by wheel
+     */
+    @Nullable
+    Scheduled prev;
+    @Nullable
+    Scheduled next;
+    boolean linked;
+
+    /**
+     * emit state, guarded by wheel
+     */
+    int state;
+
+    Scheduled(
+            @NonNull TimingWheel wheel, @NonNull String action,
+            @Nullable Object payload, long period) {
+        this.wheel = wheel;
+        this.action = action;
+        this.payload = payload;
+        this.period = period;
+    }
+
+    /**
+     * Cancel emits which are not yet due
+     *
+     * @return whether emit was cancelled, false when already emitted or cancelled
+     */
+    public boolean cancel() {
+        return this.wheel.cancel(this);
+    }
+
+    /**
+     * Check if emit was cancelled
+     *
+     * @return whether emit was cancelled
+     */
+    public boolean isCancelled() {
+        synchronized (this.wheel) {
+            return this.state == CANCELLED;
+        }
+    }
+
+    /**
+     * Check if emit will no longer happen, either because one off emit
+     * was emitted or because it was cancelled
+     *
+     * @return whether emit is done
+     */
+    public boolean isDone() {
+        synchronized (this.wheel) {
+            return this.state != ACTIVE;
+        }
+    }
+
+    /**
+     * Obtain action name
+     *
+     * @return action name
+     */
+    @NonNull
+    public String getAction() {
+        return this.action;
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.lykmapipo.localburst;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threads used to deliver actions to {@link Subscription} listeners
+ * based on their {@link ThreadMode}
+ *
+ * @since 0.7.0
+ */
+final class Schedulers {
+    /**
+     * idle time after which pool threads are released
+     */
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * main thread {@link Handler}
+     */
+    final Handler main;
+
+    /**
+     * serial background executor
+     */
+    private volatile ThreadPoolExecutor background;
+
+    /**
+     * shared async executor
+     */
+    private volatile ThreadPoolExecutor async;
+
+    /**
+     * keyed serial executors
+     */
+    private volatile Stripes stripes;
+
+    Schedulers() {
+        this.main = new Handler(Looper.getMainLooper());
+    }
+
+    /**
+     * Check if current thread is main thread
+     *
+     * @return whether current thread is main thread
+     */
+    boolean isMainThread() {
+        return Looper.myLooper() == Looper.getMainLooper();
+    }
+
+    /**
+     * Obtain serial background {@link Executor}
+     *
+     * @return {@link Executor}
+     */
+    @NonNull
+    Executor background() {
+        ThreadPoolExecutor executor = this.background;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.background;
+                if (executor == null) {
+                    executor = create("LocalBurst-Background", 1);
+                    this.background = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Obtain shared async {@link Executor}
+     *
+     * @return {@link Executor}
+     */
+    @NonNull
+    Executor async() {
+        ThreadPoolExecutor executor = this.async;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.async;
+                if (executor == null) {
+                    int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+                    executor = create("LocalBurst-Async", threads);
+                    this.async = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Obtain keyed serial {@link Stripes}, one per core
+     *
+     * @return {@link Stripes}
+     */
+    @NonNull
+    Stripes stripes() {
+        Stripes stripes = this.stripes;
+        if (stripes == null) {
+            synchronized (this) {
+                stripes = this.stripes;
+                if (stripes == null) {
+                    int count = Math.max(2, Runtime.getRuntime().availableProcessors());
+                    stripes = new Stripes(count);
+                    this.stripes = stripes;
+                }
+            }
+        }
+        return stripes;
+    }
+
+    /**
+     * Create pool of daemon threads, which are released when idle
+     *
+     * @param name    thread name prefix
+     * @param threads number of threads
+     * @return {@link ThreadPoolExecutor}
+     */
+    @NonNull
+    static ThreadPoolExecutor create(@NonNull final String name, int threads) {
+        final AtomicInteger count = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), factory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded cache of latest sticky payload per action.
+ * <p>
+ * Once full, least recently emitted or replayed action is evicted.
+ *
+ * @since 0.7.0
+ */
+final class Sticky {
+    /**
+     * default maximum number of cached actions
+     */
+    static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * maximum number of cached actions
+     */
+    private int capacity;
+
+    /**
+     * latest payload per action, in access order
+     */
+    private final LinkedHashMap<String, Object> payloads =
+            new LinkedHashMap<String, Object>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                    return size() > capacity;
+                }
+            };
+
+    /**
+     * number of cached actions, read without locking on fast paths
+     */
+    private volatile int size;
+
+    Sticky(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Cache latest payload of an action
+     *
+     * @param action  valid action name
+     * @param payload extras {@link android.os.Bundle} or typed event
+     */
+    synchronized void put(@NonNull String action, @NonNull Object payload) {
+        this.payloads.put(action, payload);
+        this.size = this.payloads.size();
+    }
+
+    /**
+     * Obtain latest payload of an action
+     *
+     * @param action action name
+     * @return cached payload or null
+     */
+    @Nullable
+    Object get(@NonNull String action) {
+        if (this.size == 0) {
+            return null;
+        }
+        synchronized (this) {
+            return this.payloads.get(action);
+        }
+    }
+
+    /**
+     * Obtain latest payloads of actions matching a wildcard pattern
+     *
+     * @param pattern wildcard pattern
+     * @return matching actions and their cached payloads, in eviction order
+     */
+    @NonNull
+    Map<String, Object> matching(@NonNull String pattern) {
+        Map<String, Object> matched = new LinkedHashMap<String, Object>();
+        if (this.size == 0) {
+            return matched;
+        }
+        synchronized (this) {
+            List<String> actions = new ArrayList<String>();
+            for (String action : this.payloads.keySet()) {
+                if (Wildcards.matches(pattern, action)) {
+                    actions.add(action);
+                }
+            }
+
+            //mark replayed actions as recently used
+            for (String action : actions) {
+                matched.put(action, this.payloads.get(action));
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Remove latest payload of an action
+     *
+     * @param action action name
+     * @return removed payload or null
+     */
+    @Nullable
+    synchronized Object remove(@NonNull String action) {
+        Object payload = this.payloads.remove(action);
+        this.size = this.payloads.size();
+        return payload;
+    }
+
+    /**
+     * Remove all cached payloads
+     */
+    synchronized void clear() {
+        this.payloads.clear();
+        this.size = 0;
+    }
+
+    /**
+     * Change maximum number of cached actions, evicting least recently
+     * used actions when shrinking
+     *
+     * @param capacity maximum number of cached actions
+     */
+    synchronized void resize(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Sticky capacity must be positive");
+        }
+        this.capacity = capacity;
+        while (this.payloads.size() > capacity) {
+            String eldest = this.payloads.keySet().iterator().next();
+            this.payloads.remove(eldest);
+        }
+        this.size = this.payloads.size();
+    }
+}
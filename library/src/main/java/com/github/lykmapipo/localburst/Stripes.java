@@ -0,0 +1,145 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed set of serial executors which deliver keyed emits off main thread.
+ * <p>
+ * Each key is always handed over to the same stripe, chosen by its hash,
+ * so that emits of the same key, such as {@code order/123}, are delivered
+ * in emit order while emits of different keys are delivered in parallel.
+ * Stripe threads are started on first use and released when idle.
+ *
+ * @see LocalBurst#emit(String, Object, android.os.Bundle)
+ * @see LocalBurst#getStripes()
+ * @since 0.7.0
+ */
+public final class Stripes {
+    /**
+     * serial executors, created on first use
+     */
+    private final AtomicReferenceArray<ThreadPoolExecutor> executors;
+
+    /**
+     * tasks handed over and completed per stripe
+     */
+    private final AtomicLongArray submitted;
+    private final AtomicLongArray completed;
+
+    Stripes(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        this.executors = new AtomicReferenceArray<ThreadPoolExecutor>(count);
+        this.submitted = new AtomicLongArray(count);
+        this.completed = new AtomicLongArray(count);
+    }
+
+    /**
+     * Obtain serial {@link Executor} of a given key
+     *
+     * @param key emit key
+     * @return {@link Executor}
+     */
+    @NonNull
+    Executor of(@NonNull Object key) {
+        final int stripe = this.getStripe(key);
+        final ThreadPoolExecutor executor = this.executor(stripe);
+        return task -> {
+            this.submitted.incrementAndGet(stripe);
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    this.completed.incrementAndGet(stripe);
+                }
+            });
+        };
+    }
+
+    @NonNull
+    private ThreadPoolExecutor executor(int stripe) {
+        ThreadPoolExecutor executor = this.executors.get(stripe);
+        if (executor != null) {
+            return executor;
+        }
+
+        //publish safely, releasing executor of a thread which lost the race
+        executor = Schedulers.create("LocalBurst-Stripe-" + stripe, 1);
+        if (this.executors.compareAndSet(stripe, null, executor)) {
+            return executor;
+        }
+        executor.shutdown();
+        return this.executors.get(stripe);
+    }
+
+    /**
+     * Obtain number of stripes
+     *
+     * @return stripe count
+     */
+    public int getCount() {
+        return this.executors.length();
+    }
+
+    /**
+     * Obtain stripe which deliver emits of a given key
+     *
+     * @param key emit key
+     * @return stripe index
+     */
+    public int getStripe(@NonNull Object key) {
+        //spread high bits, as keys often differ only in them
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return (hash & Integer.MAX_VALUE) % this.executors.length();
+    }
+
+    /**
+     * Obtain number of emits handed over to a stripe
+     *
+     * @param stripe stripe index
+     * @return submitted emits
+     */
+    public long getSubmitted(int stripe) {
+        return this.submitted.get(stripe);
+    }
+
+    /**
+     * Obtain number of emits waiting for or being delivered on a stripe
+     *
+     * @param stripe stripe index
+     * @return stripe depth
+     */
+    public long getDepth(int stripe) {
+        return this.submitted.get(stripe) - this.completed.get(stripe);
+    }
+
+    /**
+     * Obtain how unevenly keys spread over stripes, as ratio of busiest
+     * stripe submitted emits to mean submitted emits.
+     * <p>
+     * Is 1 when emits are spread evenly and approach stripe count when a
+     * few hot keys keep a single stripe busy.
+     *
+     * @return imbalance ratio, or 1 when nothing was submitted
+     */
+    public double getImbalance() {
+        long max = 0;
+        long total = 0;
+        for (int i = 0; i < this.executors.length(); i++) {
+            long submitted = this.submitted.get(i);
+            max = Math.max(max, submitted);
+            total += submitted;
+        }
+        if (total == 0) {
+            return 1;
+        }
+        return (double) max * this.executors.length() / total;
+    }
+}
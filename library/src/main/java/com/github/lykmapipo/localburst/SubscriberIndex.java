@@ -0,0 +1,49 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Build time index of {@link OnBurst} handlers, generated by the
+ * localburst annotation processor and added with
+ * {@link LocalBurst#addIndex(SubscriberIndex)}.
+ * <p>
+ * Index map each subscriber class to a generated {@link Binder}, which
+ * subscribe its handlers with direct calls, so that registration does not
+ * use reflection and handlers do not branch on action names.
+ *
+ * @since 0.7.0
+ */
+public interface SubscriberIndex {
+    /**
+     * Obtain {@link Binder} of a subscriber class
+     *
+     * @param type subscriber class
+     * @return {@link Binder} or null if class declare no {@link OnBurst} handlers
+     */
+    @Nullable
+    Binder binderOf(@NonNull Class<?> type);
+
+    /**
+     * Generated subscriber of all {@link OnBurst} handlers declared by a class
+     */
+    interface Binder {
+        /**
+         * Subscribe all handlers of a subscriber, except those overridden by
+         * handlers already bound for a subclass
+         *
+         * @param burst      {@link LocalBurst}
+         * @param subscriber instance of indexed class
+         * @param bound      signatures of handlers bound so far, to which
+         *                   signatures of subscribed handlers are added
+         * @return handlers {@link Subscription}(s)
+         */
+        @NonNull
+        List<Subscription> bind(
+                @NonNull LocalBurst burst, @NonNull Object subscriber,
+                @NonNull Set<String> bound);
+    }
+}
@@ -0,0 +1,191 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Handle of a {@link LocalBurst.OnBroadcastListener} or
+ * {@link LocalBurst.OnEventListener} registered on an action
+ *
+ * @since 0.7.0
+ */
+public final class Subscription {
+    /**
+     * owning action topic
+     */
+    private final Registry.Topic topic;
+
+    /**
+     * subscribed {@link LocalBurst.OnBroadcastListener} or {@link LocalBurst.OnEventListener},
+     * or null when weakly referenced
+     */
+    @Nullable
+    private final Object listener;
+
+    /**
+     * weak reference of subscribed listener or null
+     */
+    @Nullable
+    private final WeakReference<Object> reference;
+
+    /**
+     * listener hash code, kept to find weakly referenced listener index
+     * bucket even once listener was garbage collected
+     */
+    final int hash;
+
+    /**
+     * typed event class or null for extras listener
+     */
+    @Nullable
+    final Class<?> type;
+
+    /**
+     * delivery {@link Options}
+     */
+    final Options options;
+
+    /**
+     * whether subscription still receive broadcasts
+     */
+    volatile boolean active = true;
+
+    /**
+     * subscription {@link Gate}, created on first emit when options has a {@link Policy}
+     */
+    @Nullable
+    volatile Gate gate;
+
+    /**
+     * number of consecutive listener failures
+     */
+    private volatile int failures;
+
+    Subscription(
+            @NonNull Registry.Topic topic,
+            @NonNull Object listener,
+            @Nullable Class<?> type,
+            @NonNull Options options) {
+        this.topic = topic;
+        this.listener = options.weak ? null : listener;
+        this.reference = options.weak ? new WeakReference<Object>(listener) : null;
+        this.hash = listener.hashCode();
+        this.type = type;
+        this.options = options;
+    }
+
+    /**
+     * Obtain subscribed action name
+     *
+     * @return action name
+     */
+    @NonNull
+    public String getAction() {
+        return this.topic.action;
+    }
+
+    /**
+     * Obtain subscribed listener
+     *
+     * @return {@link LocalBurst.OnBroadcastListener} or {@link LocalBurst.OnEventListener},
+     * or null when weakly referenced listener was garbage collected
+     */
+    @Nullable
+    public Object getListener() {
+        return this.listener();
+    }
+
+    /**
+     * Obtain subscribed listener
+     *
+     * @return listener or null when weakly referenced listener was garbage collected
+     */
+    @Nullable
+    Object listener() {
+        return this.reference != null ? this.reference.get() : this.listener;
+    }
+
+    /**
+     * Obtain delivery {@link Options}
+     *
+     * @return {@link Options}
+     */
+    @NonNull
+    public Options getOptions() {
+        return this.options;
+    }
+
+    /**
+     * Check if subscription still receive broadcasts
+     *
+     * @return whether subscription is active
+     */
+    public boolean isActive() {
+        return this.active;
+    }
+
+    /**
+     * Stop receiving broadcasts.
+     * <p>
+     * Action receiver is released once its last subscription is removed.
+     */
+    public void unsubscribe() {
+        this.topic.remove(this);
+    }
+
+    /**
+     * Obtain number of consecutive listener failures
+     *
+     * @return number of consecutive failures
+     */
+    public int getFailures() {
+        return this.failures;
+    }
+
+    /**
+     * Record listener success, closing circuit
+     */
+    void succeed() {
+        if (this.failures != 0) {
+            this.failures = 0;
+        }
+    }
+
+    /**
+     * Record listener failure, and unsubscribe once consecutive failures
+     * reach {@link Options#getMaxFailures()}
+     */
+    void fail() {
+        boolean open;
+        synchronized (this) {
+            this.failures++;
+            open = this.options.maxFailures > 0 && this.failures >= this.options.maxFailures;
+        }
+        if (open) {
+            this.unsubscribe();
+        }
+    }
+
+    /**
+     * Obtain subscription {@link Gate}, creating it on first use
+     *
+     * @param sink {@link Gate.Sink} receiving released payloads
+     * @return {@link Gate}
+     */
+    @NonNull
+    Gate gate(@NonNull Gate.Sink sink) {
+        Gate gate = this.gate;
+        if (gate == null) {
+            synchronized (this) {
+                gate = this.gate;
+                if (gate == null) {
+                    gate = new Gate(this.options.policy, sink);
+                    this.gate = gate;
+                }
+            }
+        }
+        return gate;
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.lykmapipo.localburst;
+
+/**
+ * Thread on which a {@link Subscription} listener is invoked
+ *
+ * @since 0.7.0
+ */
+public enum ThreadMode {
+    /**
+     * Invoke listener inline on the thread which emitted the action.
+     * <p>
+     * Ordering: listener receive actions in the order they were emitted
+     * by each emitting thread.
+     */
+    POSTING,
+
+    /**
+     * Invoke listener on main thread, inline when emitted from main thread,
+     * otherwise using a single main Handler message per emit.
+     * <p>
+     * Ordering: listener receive actions in the order they were emitted
+     * by each emitting thread. Actions emitted inline on main thread may
+     * be received before actions emitted earlier from other threads which
+     * are still waiting in main looper.
+     */
+    MAIN,
+
+    /**
+     * Invoke listener on a single shared background thread.
+     * <p>
+     * Ordering: all background listeners receive actions one at a time
+     * in the order they were submitted.
+     */
+    BACKGROUND,
+
+    /**
+     * Invoke listener on a shared thread pool.
+     * <p>
+     * Ordering: none, listener may receive actions concurrently and
+     * in any order.
+     */
+    ASYNC
+}
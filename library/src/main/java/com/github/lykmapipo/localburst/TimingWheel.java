@@ -0,0 +1,363 @@
+package com.github.lykmapipo.localburst;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashed timing wheel of delayed and periodic emits.
+ * <p>
+ * Pending emits are linked into one of a fixed number of slots by their due
+ * tick, so that scheduling and cancelling take constant time regardless of
+ * number of pending emits. A single timer thread, started on first use,
+ * sleeps until the next non empty slot is due, or until an emit is
+ * scheduled when wheel is empty, and emits due actions on itself.
+ *
+ * @since 0.7.0
+ */
+final class TimingWheel implements Runnable {
+    private static final String TAG = TimingWheel.class.getSimpleName();
+
+    /**
+     * wheel resolution
+     */
+    static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * number of slots, a power of two
+     */
+    private static final int SIZE = 512;
+    private static final int MASK = SIZE - 1;
+
+    /**
+     * {@link Clock} of {@link System#nanoTime()}
+     */
+    static final Clock SYSTEM = System::nanoTime;
+
+    private final LocalBurst burst;
+
+    /**
+     * source of current time
+     */
+    private final Clock clock;
+
+    /**
+     * whether to start timer thread on first use, otherwise wheel is only
+     * driven by {@link #advance()}
+     */
+    private final boolean threaded;
+
+    /**
+     * heads of slot lists, guarded by this
+     */
+    private final Scheduled[] slots = new Scheduled[SIZE];
+
+    /**
+     * {@link Clock} time when wheel started
+     */
+    private final long origin;
+
+    /**
+     * next tick to expire, guarded by this
+     */
+    private long tick;
+
+    /**
+     * tick timer thread is sleeping until, guarded by this
+     */
+    private long wakeAt = Long.MAX_VALUE;
+
+    /**
+     * number of linked emits, guarded by this
+     */
+    private int pending;
+
+    /**
+     * timer thread, started on first use and guarded by this
+     */
+    @Nullable
+    private Thread thread;
+
+    TimingWheel(@NonNull LocalBurst burst) {
+        this(burst, SYSTEM, true);
+    }
+
+    TimingWheel(@NonNull LocalBurst burst, @NonNull Clock clock, boolean threaded) {
+        this.burst = burst;
+        this.clock = clock;
+        this.threaded = threaded;
+        this.origin = clock.nanoTime();
+    }
+
+    /**
+     * Schedule emit of an action
+     *
+     * @param action  action name
+     * @param payload extras {@link android.os.Bundle} or typed event
+     * @param delay   nanoseconds until first emit
+     * @param period  nanoseconds between emits, or zero for one off emit
+     * @return {@link Scheduled}
+     */
+    @NonNull
+    Scheduled schedule(
+            @NonNull String action, @Nullable Object payload, long delay, long period) {
+        Scheduled scheduled = new Scheduled(this, action, payload, period);
+        synchronized (this) {
+            scheduled.deadline = saturatedAdd(this.elapsed(), Math.max(0, delay));
+            this.link(scheduled);
+
+            //start timer thread
+            if (this.threaded && this.thread == null) {
+                this.thread = new Thread(this, "LocalBurst-Timer");
+                this.thread.setDaemon(true);
+                this.thread.start();
+            }
+
+            //wake timer thread sleeping past new emit
+            if (scheduled.tick < this.wakeAt) {
+                this.notifyAll();
+            }
+        }
+        return scheduled;
+    }
+
+    /**
+     * Cancel a scheduled emit
+     *
+     * @param scheduled {@link Scheduled}
+     * @return whether emit was cancelled
+     */
+    synchronized boolean cancel(@NonNull Scheduled scheduled) {
+        if (scheduled.state != Scheduled.ACTIVE) {
+            return false;
+        }
+        scheduled.state = Scheduled.CANCELLED;
+        this.unlink(scheduled);
+        return true;
+    }
+
+    /**
+     * Cancel all scheduled emits
+     */
+    synchronized void clear() {
+        for (int slot = 0; slot < SIZE; slot++) {
+            Scheduled scheduled = this.slots[slot];
+            while (scheduled != null) {
+                Scheduled next = scheduled.next;
+                scheduled.state = Scheduled.CANCELLED;
+                scheduled.prev = null;
+                scheduled.next = null;
+                scheduled.linked = false;
+                scheduled = next;
+            }
+            this.slots[slot] = null;
+        }
+        this.pending = 0;
+    }
+
+    @Override
+    public void run() {
+        List<Scheduled> due = new ArrayList<Scheduled>();
+        while (true) {
+            try {
+                this.await(due);
+            } catch (InterruptedException e) {
+                return;
+            }
+            this.emit(due);
+        }
+    }
+
+    /**
+     * Emit, on calling thread, all emits due by current {@link Clock} time
+     * without waiting
+     */
+    void advance() {
+        List<Scheduled> due = new ArrayList<Scheduled>();
+        synchronized (this) {
+            this.collect(this.elapsed(), due);
+        }
+        this.emit(due);
+    }
+
+    /**
+     * Emit collected due emits outside the lock, so that listeners may
+     * schedule or cancel
+     *
+     * @param due collected due emits
+     */
+    private void emit(@NonNull List<Scheduled> due) {
+        for (Scheduled scheduled : due) {
+            try {
+                this.burst.emitScheduled(scheduled.action, scheduled.payload);
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Scheduled emit of " + scheduled.action + " failed", e);
+            }
+            if (scheduled.period > 0) {
+                this.reschedule(scheduled);
+            }
+        }
+        due.clear();
+    }
+
+    /**
+     * Sleep until at least one emit is due and collect due emits
+     *
+     * @param due collected due emits
+     * @throws InterruptedException if timer thread is interrupted
+     */
+    private synchronized void await(@NonNull List<Scheduled> due) throws InterruptedException {
+        while (true) {
+            long now = this.elapsed();
+            this.collect(now, due);
+            if (!due.isEmpty()) {
+                this.wakeAt = Long.MAX_VALUE;
+                return;
+            }
+
+            //sleep until next non empty slot is due
+            this.wakeAt = this.next();
+            if (this.wakeAt == Long.MAX_VALUE) {
+                this.wait();
+            } else {
+                long sleep = this.wakeAt * TICK_NANOS - now;
+                TimeUnit.NANOSECONDS.timedWait(this, Math.max(1, sleep));
+            }
+        }
+    }
+
+    /**
+     * Unlink emits which are due by a given time, must be called holding
+     * this lock
+     *
+     * @param now nanoseconds since timing wheel started
+     * @param due collected due emits
+     */
+    private void collect(long now, @NonNull List<Scheduled> due) {
+        long current = now / TICK_NANOS;
+
+        //visit each slot at most once, however long the thread slept
+        long last = Math.min(current, this.tick + MASK);
+        for (long tick = this.tick; tick <= last; tick++) {
+            this.expire((int) (tick & MASK), current, due);
+        }
+        this.tick = Math.max(this.tick, current + 1);
+    }
+
+    /**
+     * Unlink emits of a slot which are due by a given tick
+     *
+     * @param slot    slot index
+     * @param current current tick
+     * @param due     collected due emits
+     */
+    private void expire(int slot, long current, @NonNull List<Scheduled> due) {
+        Scheduled scheduled = this.slots[slot];
+        while (scheduled != null) {
+            Scheduled next = scheduled.next;
+            if (scheduled.tick <= current) {
+                this.unlink(scheduled);
+                if (scheduled.period == 0) {
+                    scheduled.state = Scheduled.DONE;
+                }
+                due.add(scheduled);
+            }
+            scheduled = next;
+        }
+    }
+
+    /**
+     * Find tick of the next non empty slot
+     *
+     * @return tick or {@link Long#MAX_VALUE} when wheel is empty
+     */
+    private long next() {
+        if (this.pending == 0) {
+            return Long.MAX_VALUE;
+        }
+        for (int i = 0; i < SIZE; i++) {
+            if (this.slots[(int) ((this.tick + i) & MASK)] != null) {
+                return this.tick + i;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Link periodic emit back into the wheel, unless cancelled while emitting
+     *
+     * @param scheduled {@link Scheduled}
+     */
+    private synchronized void reschedule(@NonNull Scheduled scheduled) {
+        if (scheduled.state == Scheduled.ACTIVE) {
+            //keep fixed rate by advancing from previous deadline
+            scheduled.deadline = saturatedAdd(scheduled.deadline, scheduled.period);
+            this.link(scheduled);
+        }
+    }
+
+    private void link(@NonNull Scheduled scheduled) {
+        //round up, so that emits are never early
+        long deadline = scheduled.deadline;
+        long tick = deadline / TICK_NANOS + (deadline % TICK_NANOS != 0 ? 1 : 0);
+        scheduled.tick = Math.max(tick, this.tick);
+
+        int slot = (int) (scheduled.tick & MASK);
+        Scheduled head = this.slots[slot];
+        scheduled.prev = null;
+        scheduled.next = head;
+        if (head != null) {
+            head.prev = scheduled;
+        }
+        this.slots[slot] = scheduled;
+        scheduled.linked = true;
+        this.pending++;
+    }
+
+    private void unlink(@NonNull Scheduled scheduled) {
+        if (!scheduled.linked) {
+            return;
+        }
+        if (scheduled.prev != null) {
+            scheduled.prev.next = scheduled.next;
+        } else {
+            this.slots[(int) (scheduled.tick & MASK)] = scheduled.next;
+        }
+        if (scheduled.next != null) {
+            scheduled.next.prev = scheduled.prev;
+        }
+        scheduled.prev = null;
+        scheduled.next = null;
+        scheduled.linked = false;
+        this.pending--;
+    }
+
+    private long elapsed() {
+        return this.clock.nanoTime() - this.origin;
+    }
+
+    /**
+     * Add a non negative amount of nanoseconds to a deadline, capping sum
+     * to {@link Long#MAX_VALUE} instead of overflowing, so that huge delays
+     * never become due
+     *
+     * @param deadline nanoseconds since timing wheel started
+     * @param amount   non negative nanoseconds
+     * @return capped sum
+     */
+    private static long saturatedAdd(long deadline, long amount) {
+        return amount >= Long.MAX_VALUE - deadline ? Long.MAX_VALUE : deadline + amount;
+    }
+
+    /**
+     * Source of current time, in nanoseconds
+     */
+    interface Clock {
+        long nanoTime();
+    }
+}
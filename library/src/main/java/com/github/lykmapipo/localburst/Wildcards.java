@@ -0,0 +1,269 @@
+package com.github.lykmapipo.localburst;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trie of wildcard {@link Registry.Topic}(s) used to resolve which
+ * patterns match an emitted action.
+ * <p>
+ * Actions are hierarchical, with segments separated by {@code /}. A
+ * {@code *} segment match exactly one action segment, while a {@code **}
+ * segment match zero or more action segments. Matches are cached on the
+ * emitted action topic, or in a bounded cache for actions without a topic,
+ * so that repeated emits resolve matching patterns with a single lookup
+ * regardless of the number of registered topics.
+ *
+ * @since 0.7.0
+ */
+final class Wildcards {
+    /**
+     * topic segments separator
+     */
+    static final char SEPARATOR = '/';
+
+    /**
+     * segment matching exactly one segment
+     */
+    static final String SINGLE = "*";
+
+    /**
+     * segment matching zero or more segments
+     */
+    static final String MULTI = "**";
+
+    /**
+     * maximum number of cached action matches
+     */
+    private static final int CACHE_CAPACITY = 1024;
+
+    /**
+     * empty topics array
+     */
+    private static final Registry.Topic[] NONE = new Registry.Topic[0];
+
+    /**
+     * root of patterns trie, guarded by this
+     */
+    private final Node root = new Node();
+
+    /**
+     * matching patterns per emitted action
+     */
+    private final ConcurrentHashMap<String, Registry.Topic[]> matches =
+            new ConcurrentHashMap<String, Registry.Topic[]>();
+
+    /**
+     * number of registered patterns, read without locking on fast paths
+     */
+    private volatile int size;
+
+    /**
+     * trie version, incremented whenever a pattern is registered
+     */
+    private volatile int version;
+
+    /**
+     * Check if action is a wildcard pattern
+     *
+     * @param action action name
+     * @return whether action has a wildcard segment
+     */
+    static boolean isPattern(@NonNull String action) {
+        if (action.indexOf('*') < 0) {
+            return false;
+        }
+        for (String segment : segmentsOf(action)) {
+            if (SINGLE.equals(segment) || MULTI.equals(segment)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if an action match a wildcard pattern, without registering it
+     *
+     * @param pattern wildcard pattern
+     * @param action  action name
+     * @return whether pattern match action
+     */
+    static boolean matches(@NonNull String pattern, @NonNull String action) {
+        return matches(segmentsOf(pattern), 0, segmentsOf(action), 0);
+    }
+
+    private static boolean matches(
+            @NonNull String[] pattern, int index, @NonNull String[] segments, int offset) {
+        if (index == pattern.length) {
+            return offset == segments.length;
+        }
+
+        //multi segment consume zero or more segments
+        if (MULTI.equals(pattern[index])) {
+            for (int i = offset; i <= segments.length; i++) {
+                if (matches(pattern, index + 1, segments, i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        return offset < segments.length
+                && (SINGLE.equals(pattern[index]) || pattern[index].equals(segments[offset]))
+                && matches(pattern, index + 1, segments, offset + 1);
+    }
+
+    /**
+     * Check if there is no registered pattern
+     *
+     * @return whether there is no registered pattern
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Register wildcard topic
+     *
+     * @param topic {@link Registry.Topic} of a wildcard pattern
+     */
+    synchronized void add(@NonNull Registry.Topic topic) {
+        Node node = this.root;
+        for (String segment : segmentsOf(topic.action)) {
+            if (SINGLE.equals(segment)) {
+                node = node.single != null ? node.single : (node.single = new Node());
+            } else if (MULTI.equals(segment)) {
+                node = node.multi != null ? node.multi : (node.multi = new Node());
+            } else {
+                Node child = node.children.get(segment);
+                if (child == null) {
+                    child = new Node();
+                    node.children.put(segment, child);
+                }
+                node = child;
+            }
+        }
+        node.topic = topic;
+        this.size++;
+
+        //invalidate cached matches
+        this.matches.clear();
+        this.version++;
+    }
+
+    /**
+     * Obtain wildcard topics matching an emitted action topic, and cache
+     * them on the topic until a pattern is registered
+     *
+     * @param topic emitted action {@link Registry.Topic}
+     * @return matching {@link Registry.Topic}(s)
+     */
+    @NonNull
+    Registry.Topic[] match(@NonNull Registry.Topic topic) {
+        int version = this.version;
+        if (topic.matched == version) {
+            return topic.matches;
+        }
+
+        synchronized (this) {
+            version = this.version;
+            topic.matches = this.find(topic.action);
+            topic.matched = version;
+            return topic.matches;
+        }
+    }
+
+    /**
+     * Obtain wildcard topics matching an emitted action
+     *
+     * @param action emitted action name
+     * @return matching {@link Registry.Topic}(s)
+     */
+    @NonNull
+    Registry.Topic[] match(@NonNull String action) {
+        Registry.Topic[] topics = this.matches.get(action);
+        if (topics != null) {
+            return topics;
+        }
+
+        synchronized (this) {
+            topics = this.find(action);
+
+            //keep cache bounded
+            if (this.matches.size() >= CACHE_CAPACITY) {
+                this.matches.clear();
+            }
+            this.matches.put(action, topics);
+            return topics;
+        }
+    }
+
+    /**
+     * Walk trie to find wildcard topics matching an emitted action,
+     * must be called holding this lock
+     *
+     * @param action emitted action name
+     * @return matching {@link Registry.Topic}(s)
+     */
+    @NonNull
+    private Registry.Topic[] find(@NonNull String action) {
+        List<Registry.Topic> found = new ArrayList<Registry.Topic>();
+        match(this.root, segmentsOf(action), 0, found);
+        return found.isEmpty() ? NONE : found.toArray(new Registry.Topic[0]);
+    }
+
+    private static void match(
+            @NonNull Node node, @NonNull String[] segments, int index,
+            @NonNull List<Registry.Topic> found) {
+        //multi segment consume zero or more segments
+        if (node.multi != null) {
+            for (int i = index; i <= segments.length; i++) {
+                match(node.multi, segments, i, found);
+            }
+        }
+
+        if (index == segments.length) {
+            if (node.topic != null && !found.contains(node.topic)) {
+                found.add(node.topic);
+            }
+            return;
+        }
+
+        Node child = node.children.get(segments[index]);
+        if (child != null) {
+            match(child, segments, index + 1, found);
+        }
+
+        if (node.single != null) {
+            match(node.single, segments, index + 1, found);
+        }
+    }
+
+    @NonNull
+    private static String[] segmentsOf(@NonNull String action) {
+        List<String> segments = new ArrayList<String>();
+        int start = 0;
+        for (int i = 0; i < action.length(); i++) {
+            if (action.charAt(i) == SEPARATOR) {
+                segments.add(action.substring(start, i));
+                start = i + 1;
+            }
+        }
+        segments.add(action.substring(start));
+        return segments.toArray(new String[0]);
+    }
+
+    /**
+     * Trie node, one per distinct pattern prefix
+     */
+    private static final class Node {
+        private final HashMap<String, Node> children = new HashMap<String, Node>();
+        private Node single;
+        private Node multi;
+        private Registry.Topic topic;
+    }
+}
@@ -5,6 +5,9 @@ import android.content.Intent;
 import android.os.Bundle;
 
 import androidx.annotation.NonNull;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.lifecycle.LifecycleRegistry;
 import androidx.test.core.app.ApplicationProvider;
 
 import com.github.lykmapipo.common.provider.Provider;
@@ -13,13 +16,30 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.reactivestreams.Subscriber;
 import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 /**
@@ -145,6 +165,1555 @@ public class LocalBurstTest {
     }
 
 
+    @Test
+    public void shouldBeAbleToEmitBroadcast_Direct() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setMode(LocalBurst.Mode.DIRECT);
+
+        final int[] received = {0};
+        broadcast.on(ACTION_ONE, (action, extras) -> {
+            assertThat(action, is(equalTo(ACTION_ONE)));
+            assertThat(extras.getString(ACTION_TWO, ""), is(equalTo(ACTION_TWO)));
+            received[0]++;
+        });
+
+        //emit broadcast
+        Bundle bundle = new Bundle();
+        bundle.putString(ACTION_TWO, ACTION_TWO);
+        broadcast.emit(ACTION_ONE, bundle);
+
+        assertThat(received[0], is(equalTo(1)));
+    }
+
+
+    @Test
+    public void shouldBeAbleToEmitBroadcast_Broadcast() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setMode(LocalBurst.Mode.BROADCAST);
+
+        final int[] received = {0};
+        broadcast.on(ACTION_ONE, (action, extras) -> {
+            assertThat(action, is(equalTo(ACTION_ONE)));
+            assertThat(extras.getString(ACTION_TWO, ""), is(equalTo(ACTION_TWO)));
+            received[0]++;
+        });
+
+        //emit broadcast
+        Bundle bundle = new Bundle();
+        bundle.putString(ACTION_TWO, ACTION_TWO);
+        broadcast.emit(ACTION_ONE, bundle);
+        ShadowLooper.idleMainLooper();
+
+        assertThat(received[0], is(equalTo(1)));
+    }
+
+
+    @Test
+    public void shouldRegisterSingleReceiverPerAction() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setMode(LocalBurst.Mode.BROADCAST);
+
+        final int[] received = {0};
+        LocalBurst.OnBroadcastListener listener = (action, extras) -> received[0]++;
+
+        //re-subscribe same listener multiple times
+        broadcast.on(ACTION_ONE, listener);
+        broadcast.on(ACTION_ONE, listener);
+        Subscription subscription = broadcast.subscribe(ACTION_ONE, listener);
+
+        broadcast.emit(ACTION_ONE);
+        ShadowLooper.idleMainLooper();
+
+        assertThat(received[0], is(equalTo(1)));
+        assertThat(subscription, is(notNullValue()));
+        assertThat(subscription.isActive(), is(true));
+        assertThat(subscription.getAction(), is(equalTo(ACTION_ONE)));
+    }
+
+
+    @Test
+    public void shouldBeAbleToUnsubscribe() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final int[] received = {0};
+        Subscription one = broadcast.subscribe(ACTION_ONE, (action, extras) -> received[0]++);
+        Subscription two = broadcast.subscribe(ACTION_ONE, (action, extras) -> received[0]++);
+
+        one.unsubscribe();
+        broadcast.emit(ACTION_ONE);
+
+        assertThat(one.isActive(), is(false));
+        assertThat(received[0], is(equalTo(1)));
+        assertThat(broadcast.hasListener(ACTION_ONE), is(true));
+
+        two.unsubscribe();
+        broadcast.emit(ACTION_ONE);
+
+        assertThat(received[0], is(equalTo(1)));
+        assertThat(broadcast.hasListener(ACTION_ONE), is(false));
+    }
+
+
+    @Test
+    public void shouldShareExtrasBetweenListeners() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final Bundle[] received = new Bundle[3];
+        broadcast.on(ACTION_ONE, (action, extras) -> received[0] = extras);
+        broadcast.on(ACTION_ONE, (action, extras) -> received[1] = extras);
+        broadcast.on(ACTION_ONE, new Options.Builder().copyExtras(true).build(),
+                (action, extras) -> received[2] = extras);
+
+        //emit broadcast
+        Bundle bundle = new Bundle();
+        bundle.putString(ACTION_TWO, ACTION_TWO);
+        broadcast.emit(ACTION_ONE, bundle);
+
+        assertThat(received[0], is(notNullValue()));
+        assertThat(received[1], is(sameInstance(received[0])));
+        assertThat(received[2], is(not(sameInstance(received[0]))));
+        assertThat(received[2].getString(ACTION_TWO), is(equalTo(ACTION_TWO)));
+    }
+
+
+    @Test
+    public void shouldBeAbleToEmitTypedEvent() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final Progress[] received = new Progress[1];
+        final int[] extrasReceived = {0};
+        broadcast.subscribe(Progress.class, event -> received[0] = event);
+        broadcast.on(Progress.class.getName(), (action, extras) -> extrasReceived[0]++);
+
+        //emit typed event
+        Progress progress = new Progress();
+        progress.value = 42;
+        broadcast.emit(Progress.class, progress);
+
+        assertThat(received[0], is(sameInstance(progress)));
+        assertThat(received[0].value, is(equalTo(42)));
+        assertThat(extrasReceived[0], is(equalTo(0)));
+    }
+
+
+    @Test
+    public void shouldRecyclePooledEventOnceDelivered() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final int[] values = {0, 0};
+        broadcast.subscribe(ACTION_ONE, Progress.class, event -> values[0] = event.value);
+        broadcast.subscribe(ACTION_ONE, Progress.class, event -> values[1] = event.value);
+
+        EventPool<Progress> pool = new EventPool<>(2, Progress::new);
+
+        //emit pooled event
+        Progress first = pool.obtain();
+        first.value = 7;
+        broadcast.emit(ACTION_ONE, first);
+
+        assertThat(values[0], is(equalTo(7)));
+        assertThat(values[1], is(equalTo(7)));
+        assertThat(first.value, is(equalTo(0)));
+
+        //obtain recycled event
+        Progress second = pool.obtain();
+        assertThat(second, is(sameInstance(first)));
+    }
+
+
+    @Test
+    public void shouldDeliverOnSubscriptionThread() throws Exception {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final Thread[] threads = new Thread[3];
+        final CountDownLatch latch = new CountDownLatch(2);
+        broadcast.on(ACTION_ONE, new Options.Builder().threadMode(ThreadMode.POSTING).build(),
+                (action, extras) -> threads[0] = Thread.currentThread());
+        broadcast.on(ACTION_ONE, new Options.Builder().threadMode(ThreadMode.BACKGROUND).build(),
+                (action, extras) -> {
+                    threads[1] = Thread.currentThread();
+                    latch.countDown();
+                });
+        broadcast.on(ACTION_ONE, new Options.Builder().threadMode(ThreadMode.ASYNC).build(),
+                (action, extras) -> {
+                    threads[2] = Thread.currentThread();
+                    latch.countDown();
+                });
+
+        //emit broadcast
+        broadcast.emit(ACTION_ONE);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(threads[0], is(sameInstance(Thread.currentThread())));
+        assertThat(threads[1], is(not(sameInstance(Thread.currentThread()))));
+        assertThat(threads[2], is(not(sameInstance(Thread.currentThread()))));
+    }
+
+
+    @Test
+    public void shouldDeliverToEveryListenerWhileSubscriptionsChange() throws Exception {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        Options options = new Options.Builder().threadMode(ThreadMode.POSTING).build();
+
+        final int threads = 4;
+        final int emits = 5_000;
+        final AtomicInteger[] delivered = new AtomicInteger[8];
+        for (int i = 0; i < delivered.length; i++) {
+            final AtomicInteger counter = new AtomicInteger();
+            delivered[i] = counter;
+            broadcast.subscribe(ACTION_ONE, options, (action, extras) -> counter.incrementAndGet());
+        }
+
+        //churn subscriptions while emitting
+        final AtomicBoolean running = new AtomicBoolean(true);
+        Thread churner = new Thread(() -> {
+            LocalBurst.OnBroadcastListener listener = (action, extras) -> {
+            };
+            while (running.get()) {
+                broadcast.subscribe(ACTION_ONE, options, listener).unsubscribe();
+            }
+        });
+        churner.start();
+
+        ExecutorService emitters = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(emitters.submit(() -> {
+                    for (int i = 0; i < emits; i++) {
+                        broadcast.emit(ACTION_ONE);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            running.set(false);
+            churner.join();
+            emitters.shutdown();
+        }
+
+        for (AtomicInteger counter : delivered) {
+            assertThat(counter.get(), is(equalTo(threads * emits)));
+        }
+    }
+
+
+    @Test
+    public void shouldDeliverOnMainThreadWhenEmittedFromBackground() throws Exception {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final Thread[] threads = new Thread[1];
+        broadcast.on(ACTION_ONE, (action, extras) -> threads[0] = Thread.currentThread());
+
+        //emit broadcast from background
+        Thread emitter = new Thread(() -> broadcast.emit(ACTION_ONE));
+        emitter.start();
+        emitter.join();
+
+        assertThat(threads[0], is(nullValue()));
+
+        ShadowLooper.idleMainLooper();
+
+        assertThat(threads[0], is(sameInstance(Thread.currentThread())));
+    }
+
+
+    @Test
+    public void shouldBeAbleToEmitSync() throws Exception {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final Thread[] threads = new Thread[2];
+        broadcast.on(ACTION_ONE, (action, extras) -> threads[0] = Thread.currentThread());
+        broadcast.on(ACTION_ONE, new Options.Builder().threadMode(ThreadMode.BACKGROUND).build(),
+                (action, extras) -> threads[1] = Thread.currentThread());
+
+        //emit sync from background
+        final Thread[] emitter = new Thread[1];
+        emitter[0] = new Thread(() -> {
+            broadcast.emitSync(ACTION_ONE);
+            assertThat(threads[0], is(sameInstance(emitter[0])));
+            assertThat(threads[1], is(sameInstance(emitter[0])));
+        });
+        emitter[0].start();
+        emitter[0].join();
+
+        assertThat(threads[0], is(sameInstance(emitter[0])));
+        assertThat(threads[1], is(sameInstance(emitter[0])));
+    }
+
+
+    @Test
+    public void shouldBeAbleToEmitSync_Broadcast() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setMode(LocalBurst.Mode.BROADCAST);
+
+        final int[] received = {0};
+        broadcast.on(ACTION_ONE, (action, extras) -> received[0]++);
+
+        //emit sync while main looper is busy
+        ShadowLooper.pauseMainLooper();
+        try {
+            LocalBurst.$emitSync(ACTION_ONE, new Bundle());
+            assertThat(received[0], is(equalTo(1)));
+        } finally {
+            ShadowLooper.unPauseMainLooper();
+        }
+    }
+
+
+    @Test
+    public void shouldBeAbleToEmitBatch() throws Exception {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<String> received = new ArrayList<>();
+        broadcast.on(ACTION_ONE, (action, extras) -> received.add(extras.getString(ACTION_ONE)));
+        broadcast.on(ACTION_TWO, (action, extras) -> received.add(extras.getString(ACTION_TWO)));
+
+        //prepare batch
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Bundle one = new Bundle();
+            one.putString(ACTION_ONE, ACTION_ONE + i);
+            events.add(new Event(ACTION_ONE, one));
+
+            Bundle two = new Bundle();
+            two.putString(ACTION_TWO, ACTION_TWO + i);
+            events.add(new Event(ACTION_TWO, two));
+        }
+
+        //emit batch from background
+        Thread emitter = new Thread(() -> broadcast.emitBatch(events));
+        emitter.start();
+        emitter.join();
+        ShadowLooper.idleMainLooper();
+
+        assertThat(received, is(equalTo(Arrays.asList(
+                "ONE0", "TWO0", "ONE1", "TWO1", "ONE2", "TWO2"))));
+    }
+
+
+    @Test
+    public void shouldBeAbleToEmitBatch_Broadcast() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setMode(LocalBurst.Mode.BROADCAST);
+
+        final List<String> received = new ArrayList<>();
+        broadcast.on(ACTION_ONE, (action, extras) -> received.add(extras.getString(ACTION_ONE)));
+        broadcast.on(ACTION_TWO, (action, extras) -> received.add(extras.getString(ACTION_TWO)));
+
+        //prepare batch
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Bundle one = new Bundle();
+            one.putString(ACTION_ONE, ACTION_ONE + i);
+            events.add(new Event(ACTION_ONE, one));
+
+            Bundle two = new Bundle();
+            two.putString(ACTION_TWO, ACTION_TWO + i);
+            events.add(new Event(ACTION_TWO, two));
+        }
+
+        //emit batch while main looper is busy
+        ShadowLooper.pauseMainLooper();
+        try {
+            broadcast.emitBatch(events);
+            assertThat(received.isEmpty(), is(true));
+        } finally {
+            ShadowLooper.unPauseMainLooper();
+        }
+
+        assertThat(received, is(equalTo(Arrays.asList("ONE0", "TWO0", "ONE1", "TWO1"))));
+    }
+
+
+    @Test
+    public void shouldBeAbleToCollectBatch() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final int[] received = {0};
+        broadcast.on(ACTION_ONE, (action, extras) -> received[0]++);
+
+        //collect emits
+        broadcast.beginBatch();
+        broadcast.emit(ACTION_ONE);
+        broadcast.beginBatch();
+        broadcast.emit(ACTION_ONE);
+        broadcast.endBatch();
+        broadcast.emit(ACTION_ONE);
+
+        assertThat(received[0], is(equalTo(0)));
+
+        //emit collected
+        broadcast.endBatch();
+
+        assertThat(received[0], is(equalTo(3)));
+    }
+
+
+    @Test
+    public void shouldConflateToLatest() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setPolicy(ACTION_ONE, Policy.latest());
+
+        final List<String> received = new ArrayList<>();
+        broadcast.on(ACTION_ONE, (action, extras) -> received.add(extras.getString(ACTION_ONE)));
+
+        //emit while main looper is busy
+        ShadowLooper.pauseMainLooper();
+        for (int i = 0; i < 3; i++) {
+            Bundle bundle = new Bundle();
+            bundle.putString(ACTION_ONE, ACTION_ONE + i);
+            broadcast.emit(ACTION_ONE, bundle);
+        }
+        ShadowLooper.unPauseMainLooper();
+
+        assertThat(received, is(equalTo(Arrays.asList("ONE2"))));
+    }
+
+
+    @Test
+    public void shouldDebounceSubscription() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<String> received = new ArrayList<>();
+        broadcast.on(ACTION_ONE, new Options.Builder().policy(Policy.debounce(100)).build(),
+                (action, extras) -> received.add(extras.getString(ACTION_ONE)));
+
+        for (int i = 0; i < 3; i++) {
+            Bundle bundle = new Bundle();
+            bundle.putString(ACTION_ONE, ACTION_ONE + i);
+            broadcast.emit(ACTION_ONE, bundle);
+            ShadowLooper.idleMainLooper(50, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(received.isEmpty(), is(true));
+
+        ShadowLooper.idleMainLooper(50, TimeUnit.MILLISECONDS);
+
+        assertThat(received, is(equalTo(Arrays.asList("ONE2"))));
+    }
+
+
+    @Test
+    public void shouldThrottleFirst() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setPolicy(ACTION_ONE, Policy.throttleFirst(100));
+
+        final int[] received = {0};
+        broadcast.on(ACTION_ONE, (action, extras) -> received[0]++);
+
+        broadcast.emit(ACTION_ONE);
+        broadcast.emit(ACTION_ONE);
+        broadcast.emit(ACTION_ONE);
+
+        assertThat(received[0], is(equalTo(1)));
+
+        ShadowLooper.idleMainLooper(100, TimeUnit.MILLISECONDS);
+        broadcast.emit(ACTION_ONE);
+
+        assertThat(received[0], is(equalTo(2)));
+    }
+
+
+    @Test
+    public void shouldSampleLatest() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setPolicy(ACTION_ONE, Policy.sample(100));
+
+        final List<String> received = new ArrayList<>();
+        broadcast.on(ACTION_ONE, (action, extras) -> received.add(extras.getString(ACTION_ONE)));
+
+        for (int i = 0; i < 4; i++) {
+            Bundle bundle = new Bundle();
+            bundle.putString(ACTION_ONE, ACTION_ONE + i);
+            broadcast.emit(ACTION_ONE, bundle);
+            ShadowLooper.idleMainLooper(40, TimeUnit.MILLISECONDS);
+        }
+        ShadowLooper.idleMainLooper(100, TimeUnit.MILLISECONDS);
+
+        assertThat(received, is(equalTo(Arrays.asList("ONE2", "ONE3"))));
+    }
+
+    @Test
+    public void shouldBeAbleToEmitOnChannel() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        Channel channel = broadcast.channel(ACTION_ONE);
+        assertThat(broadcast.channel(ACTION_ONE), is(sameInstance(channel)));
+        assertThat(broadcast.channel(channel.getId()), is(sameInstance(channel)));
+        assertThat(channel.getName(), is(equalTo(ACTION_ONE)));
+
+        final List<String> received = new ArrayList<>();
+        channel.subscribe((action, extras) -> received.add("channel"));
+        broadcast.on(ACTION_ONE, (action, extras) -> received.add(action));
+        assertThat(channel.hasListener(), is(true));
+
+        channel.emit();
+        broadcast.emit(ACTION_ONE);
+        ShadowLooper.idleMainLooper();
+        assertThat(received, is(equalTo(
+                Arrays.asList("channel", ACTION_ONE, "channel", ACTION_ONE))));
+
+        channel.removeListeners();
+        assertThat(broadcast.hasListener(ACTION_ONE), is(false));
+    }
+
+    @Test
+    public void shouldMatchWildcardActions() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<String> single = new ArrayList<>();
+        final List<String> multi = new ArrayList<>();
+        broadcast.on("sync/*", (action, extras) -> single.add(action));
+        broadcast.on("sync/**", (action, extras) -> multi.add(action));
+
+        broadcast.emit("sync");
+        broadcast.emit("sync/users");
+        broadcast.emit("sync/users/1");
+        broadcast.emit("upload/users");
+        ShadowLooper.idleMainLooper();
+
+        assertThat(single, is(equalTo(Arrays.asList("sync/users"))));
+        assertThat(multi, is(equalTo(Arrays.asList("sync", "sync/users", "sync/users/1"))));
+        assertThat(broadcast.hasListener("sync/users/1"), is(true));
+        assertThat(broadcast.hasListener("upload/users"), is(false));
+    }
+
+    @Test
+    public void shouldMatchWildcardActions_Broadcast() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setMode(LocalBurst.Mode.BROADCAST);
+
+        final List<String> received = new ArrayList<>();
+        broadcast.on("sync/*", (action, extras) -> received.add("pattern"));
+        broadcast.on("sync/users", (action, extras) -> received.add(action));
+
+        broadcast.emit("sync/users");
+        broadcast.emit("sync/roles");
+        ShadowLooper.idleMainLooper();
+
+        assertThat(received, is(equalTo(Arrays.asList("sync/users", "pattern", "pattern"))));
+    }
+
+    @Test
+    public void shouldReplayStickyToLateListener() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        Bundle bundle = new Bundle();
+        bundle.putString(ACTION_ONE, ACTION_ONE);
+        broadcast.emitSticky(ACTION_ONE, bundle);
+        assertThat(broadcast.getSticky(ACTION_ONE), is(sameInstance(bundle)));
+
+        final List<String> received = new ArrayList<>();
+        broadcast.on(ACTION_ONE, (action, extras) -> received.add(extras.getString(ACTION_ONE)));
+        ShadowLooper.idleMainLooper();
+        assertThat(received, is(equalTo(Arrays.asList(ACTION_ONE))));
+
+        assertThat(broadcast.removeSticky(ACTION_ONE), is(true));
+        broadcast.on(ACTION_ONE, (action, extras) -> received.add(action));
+        ShadowLooper.idleMainLooper();
+        assertThat(received.size(), is(equalTo(1)));
+    }
+
+    @Test
+    public void shouldReplayMatchingStickyToWildcardListener() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.emitSticky("sync/users");
+        broadcast.emitSticky("sync/users/1");
+        broadcast.emitSticky("import/users");
+
+        final List<String> single = new ArrayList<>();
+        final List<String> multi = new ArrayList<>();
+        broadcast.on("sync/*", (action, extras) -> single.add(action));
+        broadcast.on("sync/**", (action, extras) -> multi.add(action));
+        ShadowLooper.idleMainLooper();
+
+        assertThat(single, is(equalTo(Arrays.asList("sync/users"))));
+        Collections.sort(multi);
+        assertThat(multi, is(equalTo(Arrays.asList("sync/users", "sync/users/1"))));
+        broadcast.clearSticky();
+    }
+
+    @Test
+    public void shouldEvictLeastRecentSticky() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setStickyCapacity(2);
+
+        broadcast.emitSticky(ACTION_ONE);
+        broadcast.emitSticky(ACTION_TWO);
+        broadcast.getSticky(ACTION_ONE);
+        broadcast.emitSticky(String.class, ACTION_TWO);
+
+        assertThat(broadcast.getSticky(ACTION_ONE), is(notNullValue()));
+        assertThat(broadcast.getSticky(ACTION_TWO), is(nullValue()));
+        assertThat(broadcast.getSticky(String.class), is(equalTo(ACTION_TWO)));
+
+        broadcast.clearSticky();
+        assertThat(broadcast.getSticky(ACTION_ONE), is(nullValue()));
+        broadcast.setStickyCapacity(Sticky.DEFAULT_CAPACITY);
+    }
+
+    @Test
+    public void shouldUnsubscribeWhenOwnerIsDestroyed() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        Owner owner = new Owner();
+
+        final List<String> received = new ArrayList<>();
+        Subscription subscription =
+                broadcast.on(owner, ACTION_ONE, (action, extras) -> received.add(action));
+        broadcast.emit(ACTION_ONE);
+        ShadowLooper.idleMainLooper();
+        assertThat(received.size(), is(equalTo(1)));
+
+        owner.destroy();
+        assertThat(subscription.isActive(), is(false));
+        assertThat(broadcast.on(owner, ACTION_ONE, (action, extras) -> {
+        }), is(nullValue()));
+
+        broadcast.emit(ACTION_ONE);
+        ShadowLooper.idleMainLooper();
+        assertThat(received.size(), is(equalTo(1)));
+    }
+
+    @Test
+    public void shouldPurgeCollectedWeakListener() throws Exception {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        Options options = new Options.Builder().weak(true).build();
+
+        final List<String> received = new ArrayList<>();
+        LocalBurst.OnBroadcastListener listener = (action, extras) -> received.add(action);
+        Subscription subscription = broadcast.subscribe(ACTION_ONE, options, listener);
+        broadcast.emit(ACTION_ONE);
+        ShadowLooper.idleMainLooper();
+        assertThat(received.size(), is(equalTo(1)));
+
+        //drop last strong reference
+        listener = null;
+        for (int i = 0; i < 50 && subscription.getListener() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(subscription.getListener(), is(nullValue()));
+        assertThat(subscription.isActive(), is(true));
+
+        broadcast.emit(ACTION_ONE);
+        ShadowLooper.idleMainLooper();
+        assertThat(subscription.isActive(), is(false));
+        assertThat(broadcast.hasListener(ACTION_ONE), is(false));
+    }
+
+    @Test
+    public void shouldRecordDispatchMetrics() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        DispatchMetrics metrics = new DispatchMetrics(true);
+        broadcast.setMonitor(metrics);
+
+        LocalBurst.OnBroadcastListener listener = (action, extras) -> {
+        };
+        broadcast.on(ACTION_ONE, listener, (action, extras) -> {
+        });
+        broadcast.emit(ACTION_ONE);
+        broadcast.emit(ACTION_ONE);
+        ShadowLooper.idleMainLooper();
+        broadcast.setMonitor(null);
+        broadcast.emit(ACTION_ONE);
+
+        DispatchMetrics.Action action = metrics.getAction(ACTION_ONE);
+        assertThat(action.getEmits(), is(equalTo(2L)));
+        assertThat(action.getFanOut().getMax(), is(equalTo(2L)));
+        assertThat(action.getQueueLatency().getCount(), is(equalTo(4L)));
+        assertThat(metrics.getListeners().get(listener.getClass().getName()).getCount(),
+                is(equalTo(2L)));
+    }
+
+    @Test
+    public void shouldRecordHistogramPercentiles() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+
+        assertThat(histogram.getCount(), is(equalTo(1000L)));
+        assertThat(histogram.getMax(), is(equalTo(1000L)));
+        assertThat(Math.abs(histogram.getValueAtPercentile(50) - 500) <= 500 / 32,
+                is(true));
+        assertThat(Math.abs(histogram.getValueAtPercentile(99) - 990) <= 990 / 32,
+                is(true));
+        assertThat(histogram.getValueAtPercentile(100), is(equalTo(histogram.getMax())));
+    }
+
+    @Test
+    public void shouldIsolateFailingListener() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<String> received = new ArrayList<>();
+        broadcast.setErrorHandler((action, listener, error) -> received.add(error.getMessage()));
+        try {
+            broadcast.on(ACTION_ONE, (action, extras) -> {
+                throw new IllegalStateException("failed");
+            });
+            broadcast.on(ACTION_ONE, (action, extras) -> received.add(action));
+
+            broadcast.emit(ACTION_ONE);
+            broadcast.emitSync(ACTION_ONE);
+            ShadowLooper.idleMainLooper();
+
+            assertThat(received, is(equalTo(
+                    Arrays.asList("failed", ACTION_ONE, "failed", ACTION_ONE))));
+        } finally {
+            broadcast.setErrorHandler(null);
+        }
+    }
+
+    @Test
+    public void shouldIsolateFailingErrorHandler() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<String> received = new ArrayList<>();
+        broadcast.setErrorHandler((action, listener, error) -> {
+            throw new IllegalStateException("handler failed");
+        });
+        try {
+            broadcast.on(ACTION_ONE, (action, extras) -> {
+                throw new IllegalStateException("failed");
+            });
+            broadcast.on(ACTION_ONE, (action, extras) -> received.add(action));
+
+            broadcast.emit(ACTION_ONE);
+            broadcast.emitSync(ACTION_ONE);
+            ShadowLooper.idleMainLooper();
+
+            assertThat(received, is(equalTo(Arrays.asList(ACTION_ONE, ACTION_ONE))));
+        } finally {
+            broadcast.setErrorHandler(null);
+        }
+    }
+
+    @Test
+    public void shouldEmitDispatchError() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<DispatchError> errors = new ArrayList<>();
+        broadcast.subscribe(DispatchError.class, errors::add);
+        broadcast.on(ACTION_ONE, (action, extras) -> {
+            throw new IllegalStateException("failed");
+        });
+
+        broadcast.emit(ACTION_ONE);
+        ShadowLooper.idleMainLooper();
+
+        assertThat(errors.size(), is(equalTo(1)));
+        assertThat(errors.get(0).getAction(), is(equalTo(ACTION_ONE)));
+        assertThat(errors.get(0).getError().getMessage(), is(equalTo("failed")));
+    }
+
+    @Test
+    public void shouldUnsubscribeAfterMaxFailures() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setErrorHandler((action, listener, error) -> {
+        });
+        try {
+            Options options = new Options.Builder().maxFailures(2).build();
+            Subscription subscription =
+                    broadcast.subscribe(ACTION_ONE, options, (action, extras) -> {
+                        throw new IllegalStateException("failed");
+                    });
+
+            broadcast.emit(ACTION_ONE);
+            ShadowLooper.idleMainLooper();
+            assertThat(subscription.isActive(), is(true));
+            assertThat(subscription.getFailures(), is(equalTo(1)));
+
+            broadcast.emit(ACTION_ONE);
+            ShadowLooper.idleMainLooper();
+            assertThat(subscription.isActive(), is(false));
+            assertThat(broadcast.hasListener(ACTION_ONE), is(false));
+        } finally {
+            broadcast.setErrorHandler(null);
+        }
+    }
+
+    @Test
+    public void shouldDeliverInPriorityOrder() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<String> received = new ArrayList<>();
+        broadcast.on(ACTION_ONE, (action, extras) -> received.add("default"));
+        broadcast.on(ACTION_ONE, -1, (action, extras) -> received.add("low"));
+        broadcast.on(ACTION_ONE, 10, (action, extras) -> received.add("high"));
+        broadcast.on("ONE/**", 5, (action, extras) -> received.add("pattern"));
+
+        broadcast.emit(ACTION_ONE);
+        ShadowLooper.idleMainLooper();
+
+        assertThat(received, is(equalTo(Arrays.asList("high", "pattern", "default", "low"))));
+    }
+
+    @Test
+    public void shouldStopPropagationWhenConsumed() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<String> received = new ArrayList<>();
+        broadcast.on(ACTION_ONE, (action, extras) -> received.add("ui"));
+        broadcast.on(ACTION_ONE, 10, (action, extras) -> {
+            received.add("cache");
+            if (extras.isEmpty()) {
+                LocalBurst.$consume();
+            }
+        });
+
+        broadcast.emit(ACTION_ONE);
+        Bundle changed = new Bundle();
+        changed.putString(ACTION_ONE, ACTION_ONE);
+        broadcast.emit(ACTION_ONE, changed);
+        ShadowLooper.idleMainLooper();
+
+        assertThat(received, is(equalTo(Arrays.asList("cache", "cache", "ui"))));
+    }
+
+    @Test
+    public void shouldDropOldestWhenQueueIsFull() throws Exception {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setMode(LocalBurst.Mode.DIRECT);
+        assertThat(queue(broadcast, Overflow.DROP_OLDEST, "DROP_OLDEST", "DROP_OLDEST"),
+                is(equalTo(Arrays.asList(3, 4))));
+        assertThat(broadcast.getQueue().getDropped(), is(equalTo(3L)));
+        assertThat(broadcast.getQueue().getMaxDepth(), is(equalTo(2)));
+        assertThat(broadcast.getQueue().getDepth(), is(equalTo(0)));
+        broadcast.clearQueue();
+    }
+
+    @Test
+    public void shouldDropOldestWhenQueueIsFull_Broadcast() throws Exception {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setMode(LocalBurst.Mode.BROADCAST);
+        assertThat(queue(broadcast, Overflow.DROP_OLDEST, "DROP_OLDEST", "DROP_OLDEST"),
+                is(equalTo(Arrays.asList(3, 4))));
+        assertThat(broadcast.getQueue().getDropped(), is(equalTo(3L)));
+        broadcast.clearQueue();
+        broadcast.setMode(LocalBurst.Mode.DIRECT);
+    }
+
+    @Test
+    public void shouldDropNewestWhenQueueIsFull() throws Exception {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setMode(LocalBurst.Mode.DIRECT);
+        assertThat(queue(broadcast, Overflow.DROP_NEWEST, "DROP_NEWEST", "DROP_NEWEST"),
+                is(equalTo(Arrays.asList(0, 1))));
+        assertThat(broadcast.getQueue().getDropped(), is(equalTo(3L)));
+        broadcast.clearQueue();
+    }
+
+    @Test
+    public void shouldConflateQueuedEmitsOfSameAction() throws Exception {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.setMode(LocalBurst.Mode.DIRECT);
+        assertThat(queue(broadcast, Overflow.CONFLATE, "CONFLATE_ONE", "CONFLATE_TWO"),
+                is(equalTo(Arrays.asList(3, 4))));
+        assertThat(broadcast.getQueue().getConflated(), is(equalTo(3L)));
+        assertThat(broadcast.getQueue().getDropped(), is(equalTo(0L)));
+        broadcast.clearQueue();
+    }
+
+    /**
+     * Emit five bundles from background thread, first four to given action
+     * and last to other action, into a queue of two while main looper is busy
+     */
+    private static List<Integer> queue(LocalBurst broadcast, Overflow overflow,
+                                       String action, String other) throws Exception {
+        final List<Integer> received = new ArrayList<>();
+        LocalBurst.OnBroadcastListener listener =
+                (name, extras) -> received.add(extras.getInt("value"));
+        broadcast.on(action, listener);
+        broadcast.on(other, listener);
+        broadcast.setQueue(2, overflow);
+
+        ShadowLooper.pauseMainLooper();
+        try {
+            Thread emitter = new Thread(() -> {
+                for (int i = 0; i < 5; i++) {
+                    Bundle extras = new Bundle();
+                    extras.putInt("value", i);
+                    broadcast.emit(i < 4 ? action : other, extras);
+                }
+            });
+            emitter.start();
+            emitter.join();
+        } finally {
+            ShadowLooper.unPauseMainLooper();
+        }
+        broadcast.removeListeners(listener);
+        return received;
+    }
+
+    @Test
+    public void shouldRegisterIndexedSubscriber() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.addIndex(new TestIndex());
+
+        Screen screen = new Screen();
+        List<Subscription> subscriptions = broadcast.register(screen);
+        assertThat(subscriptions.size(), is(equalTo(2)));
+        assertThat(broadcast.register(screen), is(sameInstance(subscriptions)));
+        assertThat(broadcast.isRegistered(screen), is(true));
+
+        broadcast.emit("SCREEN/ONE");
+        broadcast.emit("SCREEN/TWO");
+        ShadowLooper.idleMainLooper();
+        assertThat(screen.received, is(equalTo(Arrays.asList("SCREEN/ONE", "SCREEN/TWO"))));
+
+        broadcast.unregister(screen);
+        broadcast.emit("SCREEN/ONE");
+        ShadowLooper.idleMainLooper();
+        assertThat(screen.received.size(), is(equalTo(2)));
+        assertThat(broadcast.isRegistered(screen), is(false));
+    }
+
+    @Test
+    public void shouldRegisterOverriddenHandlerOnce() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.addIndex(new TestIndex());
+
+        DetailScreen screen = new DetailScreen();
+        List<Subscription> subscriptions = broadcast.register(screen);
+        assertThat(subscriptions.size(), is(equalTo(1)));
+
+        broadcast.emit("SCREEN/ONE");
+        broadcast.emit("SCREEN/TWO");
+        ShadowLooper.idleMainLooper();
+        assertThat(screen.received, is(equalTo(Arrays.asList("DETAIL/SCREEN/ONE"))));
+        broadcast.unregister(screen);
+    }
+
+    @Test
+    public void shouldBindConcurrentRegistrationsOnce() throws Exception {
+        final LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.addIndex(new TestIndex());
+
+        final Screen screen = new Screen();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<Subscription>>> registrations = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            registrations.add(executor.submit(() -> {
+                start.await();
+                return broadcast.register(screen);
+            }));
+        }
+        start.countDown();
+
+        List<Subscription> subscriptions = registrations.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<List<Subscription>> registration : registrations) {
+            assertThat(registration.get(5, TimeUnit.SECONDS), is(sameInstance(subscriptions)));
+        }
+        executor.shutdown();
+
+        broadcast.emit("SCREEN/ONE");
+        ShadowLooper.idleMainLooper();
+        assertThat(screen.received, is(equalTo(Arrays.asList("SCREEN/ONE"))));
+
+        broadcast.unregister(screen);
+        assertThat(broadcast.hasListener("SCREEN/ONE"), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReleaseIndexesOnDispose() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        broadcast.addIndex(new TestIndex());
+        broadcast.dispose();
+        broadcast.register(new Screen());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotRegisterUnindexedSubscriber() {
+        LocalBurst.getInstance().register(new Object());
+    }
+
+    /**
+     * Subscriber with handlers, as would be annotated with {@link OnBurst}
+     */
+    public static class Screen {
+        final List<String> received = new ArrayList<>();
+
+        public void onScreen(String action, Bundle extras) {
+            received.add(action);
+        }
+    }
+
+    /**
+     * Subscriber overriding handler of its super class
+     */
+    public static class DetailScreen extends Screen {
+        @Override
+        public void onScreen(String action, Bundle extras) {
+            received.add("DETAIL/" + action);
+        }
+    }
+
+    /**
+     * Index as would be generated by the annotation processor for {@link Screen}
+     * and {@link DetailScreen}
+     */
+    static class TestIndex implements SubscriberIndex {
+        @Override
+        public Binder binderOf(@NonNull Class<?> type) {
+            if (type == DetailScreen.class) {
+                return (burst, target, bound) -> {
+                    Screen screen = (Screen) target;
+                    if (!bound.add("onScreen(java.lang.String,android.os.Bundle)")) {
+                        return Collections.emptyList();
+                    }
+                    return Collections.singletonList(
+                            burst.subscribe("SCREEN/ONE", screen::onScreen));
+                };
+            }
+            if (type != Screen.class) {
+                return null;
+            }
+            return (burst, target, bound) -> {
+                Screen screen = (Screen) target;
+                if (!bound.add("onScreen(java.lang.String,android.os.Bundle)")) {
+                    return Collections.emptyList();
+                }
+                LocalBurst.OnBroadcastListener listener = screen::onScreen;
+                return Arrays.asList(
+                        burst.subscribe("SCREEN/ONE", listener),
+                        burst.subscribe("SCREEN/TWO", listener));
+            };
+        }
+    }
+
+    @Test
+    public void shouldIndexSubscriptionsPerListener() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        LocalBurst.OnBroadcastListener first = (action, extras) -> {
+        };
+        LocalBurst.OnBroadcastListener second = (action, extras) -> {
+        };
+        broadcast.on(first, "INDEX/ONE", "INDEX/TWO");
+        broadcast.subscribe("INDEX/*", first);
+        broadcast.on("INDEX/TWO", second);
+
+        assertThat(broadcast.subscriptionsOf(first).size(), is(equalTo(3)));
+        assertThat(broadcast.subscriptionsOf(second).get(0).getAction(),
+                is(equalTo("INDEX/TWO")));
+        assertThat(broadcast.hasListener(first, second), is(true));
+
+        broadcast.subscriptionsOf(first).get(0).unsubscribe();
+        assertThat(broadcast.subscriptionsOf(first).size(), is(equalTo(2)));
+
+        broadcast.removeListeners(first);
+        assertThat(broadcast.subscriptionsOf(first).isEmpty(), is(true));
+        assertThat(broadcast.hasListener(first), is(false));
+        assertThat(broadcast.hasListener(first, second), is(false));
+        assertThat(broadcast.hasListener("INDEX/TWO"), is(true));
+
+        broadcast.removeListeners(second);
+        assertThat(broadcast.hasListener("INDEX/TWO"), is(false));
+    }
+
+    @Test
+    public void shouldIndexWeakSubscriptionsPerListener() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        Options options = new Options.Builder().weak(true).build();
+
+        //listeners sharing a hash code bucket
+        LocalBurst.OnBroadcastListener first = new CollidingListener();
+        LocalBurst.OnBroadcastListener second = new CollidingListener();
+        LocalBurst.OnBroadcastListener strong = new CollidingListener();
+        broadcast.subscribe("WEAK/ONE", options, first);
+        broadcast.subscribe("WEAK/TWO", options, first);
+        broadcast.subscribe("WEAK/TWO", options, second);
+        broadcast.on("WEAK/ONE", strong);
+
+        assertThat(broadcast.subscriptionsOf(first).size(), is(equalTo(2)));
+        assertThat(broadcast.subscriptionsOf(second).get(0).getAction(), is(equalTo("WEAK/TWO")));
+        assertThat(broadcast.subscriptionsOf(strong).size(), is(equalTo(1)));
+
+        broadcast.removeListeners(first);
+        assertThat(broadcast.hasListener(first), is(false));
+        assertThat(broadcast.hasListener(second), is(true));
+        assertThat(broadcast.hasListener("WEAK/ONE"), is(true));
+
+        broadcast.removeListeners(second, strong);
+        assertThat(broadcast.subscriptionsOf(second).isEmpty(), is(true));
+        assertThat(broadcast.hasListener("WEAK/TWO"), is(false));
+    }
+
+    /**
+     * Listener whose instances all share a hash code
+     */
+    static class CollidingListener implements LocalBurst.OnBroadcastListener {
+        @Override
+        public void onBroadcast(String action, Bundle extras) {
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    @Test
+    public void shouldSupplyPayloadOnlyWhenListened() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final int[] supplied = {0};
+        LocalBurst.Supplier<Bundle> supplier = () -> {
+            supplied[0]++;
+            return new Bundle();
+        };
+
+        broadcast.emit("LAZY/ONE", supplier);
+        broadcast.emitSync("LAZY/ONE", supplier);
+        assertThat(supplied[0], is(equalTo(0)));
+
+        final List<String> received = new ArrayList<>();
+        LocalBurst.OnBroadcastListener listener = (action, extras) -> received.add(action);
+        broadcast.on("LAZY/*", listener);
+        broadcast.emit("LAZY/ONE", supplier);
+        ShadowLooper.idleMainLooper();
+        assertThat(supplied[0], is(equalTo(1)));
+        assertThat(received, is(equalTo(Arrays.asList("LAZY/ONE"))));
+
+        broadcast.removeListeners(listener);
+        broadcast.emit("LAZY/ONE", supplier);
+        assertThat(supplied[0], is(equalTo(1)));
+    }
+
+    @Test
+    public void shouldDeliverKeyedEmitsInOrderPerKey() throws Exception {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        Stripes stripes = broadcast.getStripes();
+        long submitted = 0;
+        for (int i = 0; i < stripes.getCount(); i++) {
+            submitted -= stripes.getSubmitted(i);
+        }
+
+        final List<Integer> first = new ArrayList<>();
+        final List<Integer> second = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(200);
+        broadcast.on("ORDER", new Options.Builder().threadMode(ThreadMode.ASYNC).build(),
+                (action, extras) -> {
+                    List<Integer> received = "order/1".equals(extras.getString("id"))
+                            ? first : second;
+                    synchronized (received) {
+                        received.add(extras.getInt("seq"));
+                    }
+                    latch.countDown();
+                });
+
+        //emit interleaved keys
+        for (int seq = 0; seq < 100; seq++) {
+            for (String id : Arrays.asList("order/1", "order/2")) {
+                Bundle bundle = new Bundle();
+                bundle.putString("id", id);
+                bundle.putInt("seq", seq);
+                broadcast.emit("ORDER", id, bundle);
+            }
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        for (List<Integer> received : Arrays.asList(first, second)) {
+            synchronized (received) {
+                assertThat(received.size(), is(equalTo(100)));
+                for (int seq = 0; seq < 100; seq++) {
+                    assertThat(received.get(seq), is(equalTo(seq)));
+                }
+            }
+        }
+
+        for (int i = 0; i < stripes.getCount(); i++) {
+            submitted += stripes.getSubmitted(i);
+        }
+        assertThat(submitted, is(equalTo(200L)));
+        assertThat(stripes.getStripe("order/1"), is(equalTo(stripes.getStripe("order/1"))));
+        assertThat(stripes.getImbalance() >= 1, is(true));
+    }
+
+    @Test
+    public void shouldCreateSingleExecutorPerStripe() throws Exception {
+        final Stripes stripes = new Stripes(1);
+        final Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    stripes.of("order/1").execute(() -> {
+                        threads.add(Thread.currentThread().getName());
+                        done.countDown();
+                    });
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(threads.size(), is(equalTo(1)));
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldEmitDelayedAndCancelScheduledEmits() throws Exception {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final CountDownLatch delayed = new CountDownLatch(1);
+        final CountDownLatch periodic = new CountDownLatch(3);
+        Options options = new Options.Builder().threadMode(ThreadMode.POSTING).build();
+        broadcast.on(ACTION_ONE, options, (action, extras) -> delayed.countDown());
+        broadcast.on("TICK", options, (action, extras) -> periodic.countDown());
+
+        Scheduled one = broadcast.emitDelayed(ACTION_ONE, new Bundle(), 50, TimeUnit.MILLISECONDS);
+        Scheduled two = broadcast.emitDelayed(ACTION_TWO, 50, TimeUnit.MILLISECONDS);
+        Scheduled three = broadcast.emitAtFixedRate(
+                "TICK", new Bundle(), 0, 20, TimeUnit.MILLISECONDS);
+        assertThat(two.cancel(), is(true));
+        assertThat(two.isCancelled(), is(true));
+        assertThat(two.cancel(), is(false));
+
+        assertThat(delayed.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(periodic.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(one.isDone(), is(true));
+        assertThat(one.isCancelled(), is(false));
+        assertThat(one.cancel(), is(false));
+        assertThat(three.isDone(), is(false));
+        assertThat(three.cancel(), is(true));
+        assertThat(three.isDone(), is(true));
+    }
+
+    @Test
+    public void shouldEmitScheduledEmitsWhenDue() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        final long[] now = {0};
+        TimingWheel wheel = new TimingWheel(broadcast, () -> now[0], false);
+
+        final List<String> received = new ArrayList<>();
+        broadcast.on(ACTION_ONE, (action, extras) -> received.add(action));
+        broadcast.on(ACTION_TWO, (action, extras) -> received.add(action));
+        broadcast.on("TICK", (action, extras) -> received.add(action));
+
+        long millis = TimeUnit.MILLISECONDS.toNanos(1);
+        Scheduled one = wheel.schedule(ACTION_ONE, null, 50 * millis, 0);
+        Scheduled two = wheel.schedule(ACTION_TWO, null, 50 * millis, 0);
+        Scheduled three = wheel.schedule("TICK", null, 0, 20 * millis);
+        assertThat(two.cancel(), is(true));
+
+        wheel.advance();
+        assertThat(received, is(equalTo(Arrays.asList("TICK"))));
+
+        now[0] = 20 * millis;
+        wheel.advance();
+        now[0] = 49 * millis;
+        wheel.advance();
+        assertThat(received, is(equalTo(Arrays.asList("TICK", "TICK", "TICK"))));
+        assertThat(one.isDone(), is(false));
+
+        now[0] = 50 * millis;
+        wheel.advance();
+        assertThat(received, is(equalTo(Arrays.asList("TICK", "TICK", "TICK", ACTION_ONE))));
+        assertThat(one.isDone(), is(true));
+
+        assertThat(three.cancel(), is(true));
+        received.clear();
+        now[0] = 500 * millis;
+        wheel.advance();
+        assertThat(received.isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldNeverEmitHugeDelay() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+        final long[] now = {0};
+        TimingWheel wheel = new TimingWheel(broadcast, () -> now[0], false);
+
+        final List<String> received = new ArrayList<>();
+        broadcast.on(ACTION_ONE, (action, extras) -> received.add(action));
+        broadcast.on(ACTION_TWO, (action, extras) -> received.add(action));
+
+        now[0] = TimeUnit.MILLISECONDS.toNanos(10);
+        Scheduled huge = wheel.schedule(ACTION_ONE, null, Long.MAX_VALUE, 0);
+        Scheduled periodic = wheel.schedule(
+                ACTION_ONE, null, Long.MAX_VALUE - 1, Long.MAX_VALUE);
+        wheel.schedule(ACTION_TWO, null, TimeUnit.MILLISECONDS.toNanos(50), 0);
+
+        now[0] = TimeUnit.DAYS.toNanos(365 * 100);
+        wheel.advance();
+        assertThat(received, is(equalTo(Arrays.asList(ACTION_TWO))));
+        assertThat(huge.isDone(), is(false));
+        assertThat(periodic.isDone(), is(false));
+        assertThat(huge.cancel(), is(true));
+        assertThat(periodic.cancel(), is(true));
+    }
+
+    @Test
+    public void shouldStreamActionOnDemand() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<Integer> received = new ArrayList<>();
+        final org.reactivestreams.Subscription[] subscription = {null};
+        broadcast.stream("STREAM").subscribe(new Subscriber<Bundle>() {
+            @Override
+            public void onSubscribe(org.reactivestreams.Subscription s) {
+                subscription[0] = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(Bundle bundle) {
+                received.add(bundle.getInt("value"));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        for (int i = 0; i < 3; i++) {
+            Bundle extras = new Bundle();
+            extras.putInt("value", i);
+            broadcast.emit("STREAM", extras);
+        }
+        assertThat(received, is(equalTo(Arrays.asList(0))));
+
+        subscription[0].request(5);
+        assertThat(received, is(equalTo(Arrays.asList(0, 1, 2))));
+
+        subscription[0].cancel();
+        assertThat(broadcast.hasListener("STREAM"), is(false));
+    }
+
+    @Test
+    public void shouldBoundStreamBuffer() throws Exception {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<String> received = new ArrayList<>();
+        final org.reactivestreams.Subscription[] subscription = {null};
+        final CountDownLatch latch = new CountDownLatch(2);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        broadcast.stream(String.class)
+                .buffer(2, Overflow.DROP_OLDEST)
+                .observeOn(executor)
+                .subscribe(new Subscriber<String>() {
+                    @Override
+                    public void onSubscribe(org.reactivestreams.Subscription s) {
+                        subscription[0] = s;
+                    }
+
+                    @Override
+                    public void onNext(String event) {
+                        received.add(event);
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onComplete() {
+                    }
+                });
+
+        broadcast.emit(String.class, ACTION_ONE);
+        broadcast.emit(String.class, ACTION_TWO);
+        broadcast.emit(String.class, "THREE");
+        subscription[0].request(Long.MAX_VALUE);
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(received, is(equalTo(Arrays.asList(ACTION_TWO, "THREE"))));
+
+        subscription[0].cancel();
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldBoundStreamBufferByDefault() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<Integer> bounded = new ArrayList<>();
+        final List<Integer> unbounded = new ArrayList<>();
+        final List<org.reactivestreams.Subscription> subscriptions = new ArrayList<>();
+        for (final BurstPublisher<Integer> publisher : Arrays.asList(
+                broadcast.stream(Integer.class), broadcast.stream(Integer.class).unbounded())) {
+            final List<Integer> received = subscriptions.isEmpty() ? bounded : unbounded;
+            publisher.subscribe(new Subscriber<Integer>() {
+                @Override
+                public void onSubscribe(org.reactivestreams.Subscription s) {
+                    subscriptions.add(s);
+                }
+
+                @Override
+                public void onNext(Integer event) {
+                    received.add(event);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+        }
+
+        int count = BurstPublisher.DEFAULT_CAPACITY + 72;
+        for (int i = 0; i < count; i++) {
+            broadcast.emit(Integer.class, i);
+        }
+        for (org.reactivestreams.Subscription subscription : subscriptions) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        assertThat(bounded.size(), is(equalTo(BurstPublisher.DEFAULT_CAPACITY)));
+        assertThat(bounded.get(0), is(equalTo(72)));
+        assertThat(unbounded.size(), is(equalTo(count)));
+
+        for (org.reactivestreams.Subscription subscription : subscriptions) {
+            subscription.cancel();
+        }
+    }
+
+    @Test
+    public void shouldDropInsteadOfBlockingOnEmittingThread() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<String> received = new ArrayList<>();
+        final org.reactivestreams.Subscription[] subscription = {null};
+        broadcast.stream(String.class)
+                .buffer(1, Overflow.BLOCK)
+                .subscribe(new Subscriber<String>() {
+                    @Override
+                    public void onSubscribe(org.reactivestreams.Subscription s) {
+                        subscription[0] = s;
+                    }
+
+                    @Override
+                    public void onNext(String event) {
+                        received.add(event);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onComplete() {
+                    }
+                });
+
+        broadcast.emit(String.class, ACTION_ONE);
+        broadcast.emit(String.class, ACTION_TWO);
+        subscription[0].request(Long.MAX_VALUE);
+        assertThat(received, is(equalTo(Arrays.asList(ACTION_ONE))));
+
+        subscription[0].cancel();
+    }
+
+    @Test
+    public void shouldCancelFailingSubscriber() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<String> received = new ArrayList<>();
+        broadcast.setErrorHandler((action, listener, error) -> received.add(error.getMessage()));
+        try {
+            broadcast.stream(String.class).subscribe(new Subscriber<String>() {
+                @Override
+                public void onSubscribe(org.reactivestreams.Subscription s) {
+                    s.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(String event) {
+                    received.add(event);
+                    throw new IllegalStateException("failed");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+
+            broadcast.emit(String.class, ACTION_ONE);
+            broadcast.emit(String.class, ACTION_TWO);
+            assertThat(received, is(equalTo(Arrays.asList(ACTION_ONE))));
+            assertThat(broadcast.hasListener(String.class.getName()), is(false));
+        } finally {
+            broadcast.setErrorHandler(null);
+        }
+    }
+
+    @Test
+    public void shouldShareLiveDataPerAction() {
+        LocalBurst broadcast = LocalBurst.getInstance();
+
+        final List<String> received = new ArrayList<>();
+        LocalBurst.OnBroadcastListener listener = (action, extras) -> received.add(action);
+        broadcast.on(ACTION_ONE, listener);
+
+        Owner first = new Owner();
+        Owner second = new Owner();
+        LocalBurst.observe(first, ACTION_ONE, bundle -> received.add("first"));
+        LocalBurst.observe(second, ACTION_ONE, bundle -> received.add("second"));
+        broadcast.emit(ACTION_ONE);
+        ShadowLooper.idleMainLooper();
+        assertThat(received, is(equalTo(Arrays.asList(ACTION_ONE, "first", "second"))));
+
+        assertThat(broadcast.liveData.size(), is(1));
+
+        first.destroy();
+        second.destroy();
+        assertThat(broadcast.hasListener(listener), is(true));
+        assertThat(broadcast.liveData.isEmpty(), is(true));
+
+        received.clear();
+        broadcast.emit(ACTION_ONE);
+        ShadowLooper.idleMainLooper();
+        assertThat(received, is(equalTo(Arrays.asList(ACTION_ONE))));
+
+        Owner third = new Owner();
+        LocalBurst.observe(third, ACTION_ONE, bundle -> received.add("third"));
+        received.clear();
+        broadcast.emit(ACTION_ONE);
+        ShadowLooper.idleMainLooper();
+        assertThat(received, is(equalTo(Arrays.asList(ACTION_ONE, "third"))));
+        third.destroy();
+        assertThat(broadcast.liveData.isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldNotDropLiveDataValues() {
+        Owner owner = new Owner();
+        final List<String> received = new ArrayList<>();
+        LocalBurst.observe(owner, ACTION_ONE, bundle -> received.add(bundle.getString(ACTION_ONE)));
+
+        for (int i = 0; i < 3; i++) {
+            Bundle bundle = new Bundle();
+            bundle.putString(ACTION_ONE, ACTION_ONE + i);
+            LocalBurst.$emit(ACTION_ONE, bundle);
+        }
+        ShadowLooper.idleMainLooper();
+
+        assertThat(received, is(equalTo(Arrays.asList("ONE0", "ONE1", "ONE2"))));
+        owner.destroy();
+    }
+
+
     @Test
     public void shouldBeAbleToRemoveAllListenersPerSpecifiedActions() {
 
@@ -249,9 +1818,41 @@ public class LocalBurstTest {
     }
 
 
+    static class Progress extends PooledEvent {
+        int value;
+
+        @Override
+        protected void reset() {
+            value = 0;
+        }
+    }
+
+
+    /**
+     * Started {@link LifecycleOwner} for live data observers
+     */
+    private static class Owner implements LifecycleOwner {
+        private final LifecycleRegistry registry = new LifecycleRegistry(this);
+
+        Owner() {
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_START);
+        }
+
+        void destroy() {
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_DESTROY);
+        }
+
+        @NonNull
+        @Override
+        public Lifecycle getLifecycle() {
+            return registry;
+        }
+    }
+
     @After
     public void cleanup() {
         LocalBurst.getInstance().dispose();
+        LocalBurst.getInstance().setMode(LocalBurst.Mode.DIRECT);
         context = null;
     }
 }
@@ -0,0 +1,81 @@
+package com.github.lykmapipo.localburst.processor;
+
+import java.util.List;
+
+/**
+ * Validated {@code @OnBurst} handler method
+ *
+ * @since 0.7.0
+ */
+final class Handler {
+    /**
+     * handler signature
+     */
+    enum Kind {
+        /**
+         * {@code void onSync()}
+         */
+        NONE,
+
+        /**
+         * {@code void onSync(Bundle extras)}
+         */
+        EXTRAS,
+
+        /**
+         * {@code void onSync(String action, Bundle extras)}
+         */
+        ACTION_EXTRAS,
+
+        /**
+         * {@code void onUser(User event)}
+         */
+        EVENT
+    }
+
+    /**
+     * handler method name
+     */
+    final String method;
+
+    /**
+     * method name and erased parameter types, shared by overriding methods
+     */
+    final String signature;
+
+    /**
+     * handler signature
+     */
+    final Kind kind;
+
+    /**
+     * handled actions, empty for typed events on their type channel
+     */
+    final List<String> actions;
+
+    /**
+     * canonical name of typed event class, or null for extras handlers
+     */
+    final String type;
+
+    /**
+     * {@code ThreadMode} constant name
+     */
+    final String threadMode;
+
+    /**
+     * handler priority
+     */
+    final int priority;
+
+    Handler(String method, String signature, Kind kind, List<String> actions, String type,
+            String threadMode, int priority) {
+        this.method = method;
+        this.signature = signature;
+        this.kind = kind;
+        this.actions = actions;
+        this.type = type;
+        this.threadMode = threadMode;
+        this.priority = priority;
+    }
+}
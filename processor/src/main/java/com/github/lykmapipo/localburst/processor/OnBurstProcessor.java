@@ -0,0 +1,472 @@
+package com.github.lykmapipo.localburst.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Annotation processor which index {@code @OnBurst} handlers at build time.
+ * <p>
+ * For each class declaring handlers, a {@code <Class>_BurstBinder} is
+ * generated next to it, subscribing each handler with a listener which
+ * call it directly. A single {@code SubscriberIndex}, named by the
+ * {@value #OPTION_INDEX} processor option, map classes to their binders.
+ *
+ * @since 0.7.0
+ */
+public final class OnBurstProcessor extends AbstractProcessor {
+    /**
+     * processor option naming generated index class, such as
+     * {@code com.example.app.AppBurstIndex}
+     */
+    static final String OPTION_INDEX = "localBurstIndex";
+
+    private static final String PACKAGE = "com.github.lykmapipo.localburst";
+    private static final String ON_BURST = PACKAGE + ".OnBurst";
+    private static final String BUNDLE = "android.os.Bundle";
+    private static final String STRING = "java.lang.String";
+    private static final String BINDER_SUFFIX = "_BurstBinder";
+
+    /**
+     * indexed classes and their binder names, collected over all rounds
+     */
+    private final Map<TypeElement, String> binders = new LinkedHashMap<TypeElement, String>();
+
+    /**
+     * whether index was generated
+     */
+    private boolean indexed;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(ON_BURST);
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(OPTION_INDEX);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ON_BURST);
+        if (annotation == null || round.processingOver()) {
+            return false;
+        }
+
+        //group handlers per declaring class
+        Map<TypeElement, List<Handler>> handlers = new LinkedHashMap<TypeElement, List<Handler>>();
+        for (Element element : round.getElementsAnnotatedWith(annotation)) {
+            Handler handler = this.handlerOf((ExecutableElement) element, annotation);
+            if (handler != null) {
+                TypeElement type = (TypeElement) element.getEnclosingElement();
+                List<Handler> declared = handlers.get(type);
+                if (declared == null) {
+                    declared = new ArrayList<Handler>();
+                    handlers.put(type, declared);
+                }
+                declared.add(handler);
+            }
+        }
+
+        if (handlers.isEmpty()) {
+            return true;
+        }
+        if (this.indexed) {
+            //index is generated once, in the round of source handlers
+            for (TypeElement type : handlers.keySet()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "@OnBurst handlers of generated sources can not be indexed", type);
+            }
+            return true;
+        }
+
+        for (Map.Entry<TypeElement, List<Handler>> entry : handlers.entrySet()) {
+            this.writeBinder(entry.getKey(), entry.getValue());
+        }
+        this.writeIndex();
+        this.indexed = true;
+        return true;
+    }
+
+    /**
+     * Validate annotated method and obtain its {@link Handler}
+     *
+     * @param method     annotated method
+     * @param annotation {@code OnBurst} type
+     * @return {@link Handler} or null when invalid, after reporting an error
+     */
+    private Handler handlerOf(ExecutableElement method, TypeElement annotation) {
+        Element enclosing = method.getEnclosingElement();
+        if (enclosing.getKind() != ElementKind.CLASS || !isPublic(enclosing)) {
+            return this.error(method, "@OnBurst handlers must be declared by public classes");
+        }
+        Set<Modifier> modifiers = method.getModifiers();
+        if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+            return this.error(method, "@OnBurst handlers must be public and not static");
+        }
+
+        //read annotation values, including defaults
+        List<String> actions = new ArrayList<String>();
+        String threadMode = "MAIN";
+        int priority = 0;
+        for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            if (!mirror.getAnnotationType().asElement().equals(annotation)) {
+                continue;
+            }
+            Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                    processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : values.entrySet()) {
+                String name = entry.getKey().getSimpleName().toString();
+                Object value = entry.getValue().getValue();
+                if ("value".equals(name)) {
+                    for (Object action : (List<?>) value) {
+                        actions.add((String) ((AnnotationValue) action).getValue());
+                    }
+                } else if ("threadMode".equals(name)) {
+                    threadMode = ((VariableElement) value).getSimpleName().toString();
+                } else if ("priority".equals(name)) {
+                    priority = (Integer) value;
+                }
+            }
+        }
+        for (String action : actions) {
+            if (action.trim().isEmpty()) {
+                return this.error(method, "@OnBurst actions must not be empty");
+            }
+        }
+
+        //resolve handler signature
+        List<? extends VariableElement> parameters = method.getParameters();
+        String name = method.getSimpleName().toString();
+        String signature = this.signatureOf(method);
+        if (parameters.isEmpty() || parameters.size() == 2 || isBundle(parameters.get(0))) {
+            if (actions.isEmpty()) {
+                return this.error(method, "@OnBurst extras handlers must declare actions");
+            }
+            if (parameters.isEmpty()) {
+                return new Handler(name, signature, Handler.Kind.NONE, actions, null,
+                        threadMode, priority);
+            }
+            if (parameters.size() == 1) {
+                return new Handler(name, signature, Handler.Kind.EXTRAS, actions, null,
+                        threadMode, priority);
+            }
+            if (isType(parameters.get(0), STRING) && isBundle(parameters.get(1))) {
+                return new Handler(name, signature, Handler.Kind.ACTION_EXTRAS, actions, null,
+                        threadMode, priority);
+            }
+            return this.error(method, "@OnBurst handler parameters must be (String, Bundle)");
+        }
+
+        if (parameters.size() == 1) {
+            TypeMirror type = parameters.get(0).asType();
+            if (type.getKind() != TypeKind.DECLARED
+                    || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+                return this.error(method, "@OnBurst event must be a non generic class");
+            }
+            String event = ((TypeElement) ((DeclaredType) type).asElement())
+                    .getQualifiedName().toString();
+            return new Handler(name, signature, Handler.Kind.EVENT, actions, event,
+                    threadMode, priority);
+        }
+
+        return this.error(method, "@OnBurst handlers accept at most two parameters");
+    }
+
+    /**
+     * Generate binder of a class handlers
+     *
+     * @param type     declaring class
+     * @param handlers class {@link Handler}(s)
+     */
+    private void writeBinder(TypeElement type, List<Handler> handlers) {
+        String packageName = packageOf(type);
+        String simpleName = binderNameOf(type);
+        String binder = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        String subscriber = type.getQualifiedName().toString();
+
+        StringBuilder code = new StringBuilder();
+        code.append("// Generated by localburst annotation processor, do not edit\n");
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("public final class ").append(simpleName)
+                .append(" implements ").append(PACKAGE).append(".SubscriberIndex.Binder {\n");
+        code.append("    @Override\n");
+        code.append("    public java.util.List<").append(PACKAGE)
+                .append(".Subscription> bind(\n");
+        code.append("            ").append(PACKAGE)
+                .append(".LocalBurst burst, Object target, java.util.Set<String> bound) {\n");
+        code.append("        final ").append(subscriber).append(" subscriber = (")
+                .append(subscriber).append(") target;\n");
+        code.append("        java.util.List<").append(PACKAGE)
+                .append(".Subscription> subscriptions = new java.util.ArrayList<")
+                .append(PACKAGE).append(".Subscription>();\n");
+
+        for (int i = 0; i < handlers.size(); i++) {
+            Handler handler = handlers.get(i);
+            String listener = "listener" + i;
+            String options = "options" + i;
+            code.append("\n");
+            code.append("        ").append(PACKAGE).append(".Options ").append(options)
+                    .append(" = new ").append(PACKAGE).append(".Options.Builder()\n");
+            code.append("                .threadMode(").append(PACKAGE).append(".ThreadMode.")
+                    .append(handler.threadMode).append(")\n");
+            code.append("                .priority(").append(handler.priority)
+                    .append(")\n");
+            code.append("                .build();\n");
+
+            if (handler.kind == Handler.Kind.EVENT) {
+                code.append("        ").append(PACKAGE).append(".LocalBurst.OnEventListener<")
+                        .append(handler.type).append("> ").append(listener).append(" =\n");
+                code.append("                new ").append(PACKAGE)
+                        .append(".LocalBurst.OnEventListener<").append(handler.type)
+                        .append(">() {\n");
+                code.append("                    @Override\n");
+                code.append("                    public void onEvent(").append(handler.type)
+                        .append(" event) {\n");
+                code.append("                        subscriber.").append(handler.method)
+                        .append("(event);\n");
+                code.append("                    }\n");
+                code.append("                };\n");
+                appendBound(code, handler);
+                if (handler.actions.isEmpty()) {
+                    code.append("            add(subscriptions, burst.subscribe(")
+                            .append(handler.type).append(".class, ").append(options)
+                            .append(", ").append(listener).append("));\n");
+                }
+                for (String action : handler.actions) {
+                    code.append("            add(subscriptions, burst.subscribe(")
+                            .append(literalOf(action)).append(", ").append(handler.type)
+                            .append(".class, ").append(options).append(", ")
+                            .append(listener).append("));\n");
+                }
+                code.append("        }\n");
+                continue;
+            }
+
+            String arguments = handler.kind == Handler.Kind.NONE ? ""
+                    : handler.kind == Handler.Kind.EXTRAS ? "extras" : "action, extras";
+            code.append("        ").append(PACKAGE).append(".LocalBurst.OnBroadcastListener ")
+                    .append(listener).append(" =\n");
+            code.append("                new ").append(PACKAGE)
+                    .append(".LocalBurst.OnBroadcastListener() {\n");
+            code.append("                    @Override\n");
+            code.append("                    public void onBroadcast(String action, ")
+                    .append(BUNDLE).append(" extras) {\n");
+            code.append("                        subscriber.").append(handler.method)
+                    .append("(").append(arguments).append(");\n");
+            code.append("                    }\n");
+            code.append("                };\n");
+            appendBound(code, handler);
+            for (String action : handler.actions) {
+                code.append("            add(subscriptions, burst.subscribe(")
+                        .append(literalOf(action)).append(", ").append(options).append(", ")
+                        .append(listener).append("));\n");
+            }
+            code.append("        }\n");
+        }
+
+        code.append("        return subscriptions;\n");
+        code.append("    }\n\n");
+        code.append("    private static void add(\n");
+        code.append("            java.util.List<").append(PACKAGE)
+                .append(".Subscription> subscriptions,\n");
+        code.append("            ").append(PACKAGE).append(".Subscription subscription) {\n");
+        code.append("        if (subscription != null) {\n");
+        code.append("            subscriptions.add(subscription);\n");
+        code.append("        }\n");
+        code.append("    }\n");
+        code.append("}\n");
+
+        if (this.write(binder, code, type)) {
+            this.binders.put(type, binder);
+        }
+    }
+
+    /**
+     * Open generated block which subscribe a handler, unless a subclass
+     * handler overriding it was already bound
+     *
+     * @param code    binder source
+     * @param handler {@link Handler}
+     */
+    private static void appendBound(StringBuilder code, Handler handler) {
+        code.append("        if (bound.add(").append(literalOf(handler.signature))
+                .append(")) {\n");
+    }
+
+    /**
+     * Generate index of all binders
+     */
+    private void writeIndex() {
+        if (this.binders.isEmpty()) {
+            return;
+        }
+        String index = processingEnv.getOptions().get(OPTION_INDEX);
+        if (index == null || index.trim().isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Missing annotation processor option " + OPTION_INDEX
+                            + ", naming the generated SubscriberIndex class");
+            return;
+        }
+
+        int dot = index.lastIndexOf('.');
+        String packageName = dot > 0 ? index.substring(0, dot) : "";
+        String simpleName = index.substring(dot + 1);
+
+        StringBuilder code = new StringBuilder();
+        code.append("// Generated by localburst annotation processor, do not edit\n");
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("public final class ").append(simpleName)
+                .append(" implements ").append(PACKAGE).append(".SubscriberIndex {\n");
+        code.append("    private final java.util.Map<Class<?>, Binder> binders =\n");
+        code.append("            new java.util.HashMap<Class<?>, Binder>();\n\n");
+        code.append("    public ").append(simpleName).append("() {\n");
+        for (Map.Entry<TypeElement, String> entry : this.binders.entrySet()) {
+            code.append("        this.binders.put(")
+                    .append(entry.getKey().getQualifiedName()).append(".class, new ")
+                    .append(entry.getValue()).append("());\n");
+        }
+        code.append("    }\n\n");
+        code.append("    @Override\n");
+        code.append("    public Binder binderOf(Class<?> type) {\n");
+        code.append("        return this.binders.get(type);\n");
+        code.append("    }\n");
+        code.append("}\n");
+
+        this.write(index, code, this.binders.keySet().toArray(new Element[0]));
+    }
+
+    private boolean write(String name, CharSequence code, Element... originating) {
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(name, originating);
+            Writer writer = file.openWriter();
+            try {
+                writer.write(code.toString());
+            } finally {
+                writer.close();
+            }
+            return true;
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write " + name + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Obtain method name and erased parameter types, which is the same for
+     * a handler and the handlers overriding it
+     */
+    private String signatureOf(ExecutableElement method) {
+        StringBuilder signature = new StringBuilder(method.getSimpleName()).append('(');
+        List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                signature.append(',');
+            }
+            signature.append(processingEnv.getTypeUtils().erasure(parameters.get(i).asType()));
+        }
+        return signature.append(')').toString();
+    }
+
+    private Handler error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return null;
+    }
+
+    private boolean isBundle(VariableElement parameter) {
+        return isType(parameter, BUNDLE);
+    }
+
+    private boolean isType(VariableElement parameter, String name) {
+        TypeMirror type = parameter.asType();
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement())
+                .getQualifiedName().contentEquals(name);
+    }
+
+    /**
+     * Check if class and all its enclosing classes are public
+     */
+    private static boolean isPublic(Element type) {
+        for (Element element = type; element.getKind() != ElementKind.PACKAGE;
+             element = element.getEnclosingElement()) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String packageOf(TypeElement type) {
+        Element element = type;
+        while (element.getKind() != ElementKind.PACKAGE) {
+            element = element.getEnclosingElement();
+        }
+        return ((PackageElement) element).getQualifiedName().toString();
+    }
+
+    /**
+     * Obtain binder simple name, joining nested class names with underscore
+     */
+    private static String binderNameOf(TypeElement type) {
+        String name = type.getSimpleName().toString();
+        for (Element element = type.getEnclosingElement();
+             element.getKind() != ElementKind.PACKAGE; element = element.getEnclosingElement()) {
+            name = element.getSimpleName() + "_" + name;
+        }
+        return name + BINDER_SUFFIX;
+    }
+
+    /**
+     * Obtain java string literal of an action
+     */
+    private static String literalOf(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
@@ -0,0 +1,237 @@
+package com.github.lykmapipo.localburst.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+
+/**
+ * @author lally elias
+ * @email lallyelias87@gmail.com, lally.elias@byteskode.com
+ */
+public class OnBurstProcessorTest {
+    private static final JavaFileObject ON_BURST = JavaFileObjects.forSourceLines(
+            "com.github.lykmapipo.localburst.OnBurst",
+            "package com.github.lykmapipo.localburst;",
+            "public @interface OnBurst {",
+            "    String[] value() default {};",
+            "    ThreadMode threadMode() default ThreadMode.MAIN;",
+            "    int priority() default 0;",
+            "}");
+
+    private static final JavaFileObject THREAD_MODE = JavaFileObjects.forSourceLines(
+            "com.github.lykmapipo.localburst.ThreadMode",
+            "package com.github.lykmapipo.localburst;",
+            "public enum ThreadMode { POSTING, MAIN, BACKGROUND, ASYNC }");
+
+    private static final JavaFileObject BUNDLE = JavaFileObjects.forSourceLines(
+            "android.os.Bundle",
+            "package android.os;",
+            "public class Bundle {}");
+
+    /**
+     * library api used by generated sources
+     */
+    private static final JavaFileObject[] API = {
+            ON_BURST, THREAD_MODE, BUNDLE,
+            JavaFileObjects.forSourceLines(
+                    "com.github.lykmapipo.localburst.LocalBurst",
+                    "package com.github.lykmapipo.localburst;",
+                    "public class LocalBurst {",
+                    "    public interface OnBroadcastListener {",
+                    "        void onBroadcast(String action, android.os.Bundle extras);",
+                    "    }",
+                    "    public interface OnEventListener<T> {",
+                    "        void onEvent(T event);",
+                    "    }",
+                    "    public Subscription subscribe(",
+                    "            String action, Options options, OnBroadcastListener listener) {",
+                    "        return null;",
+                    "    }",
+                    "    public <T> Subscription subscribe(",
+                    "            Class<T> type, Options options, OnEventListener<T> listener) {",
+                    "        return null;",
+                    "    }",
+                    "    public <T> Subscription subscribe(String action, Class<T> type,",
+                    "            Options options, OnEventListener<T> listener) {",
+                    "        return null;",
+                    "    }",
+                    "}"),
+            JavaFileObjects.forSourceLines(
+                    "com.github.lykmapipo.localburst.Options",
+                    "package com.github.lykmapipo.localburst;",
+                    "public class Options {",
+                    "    public static class Builder {",
+                    "        public Builder threadMode(ThreadMode threadMode) { return this; }",
+                    "        public Builder priority(int priority) { return this; }",
+                    "        public Options build() { return new Options(); }",
+                    "    }",
+                    "}"),
+            JavaFileObjects.forSourceLines(
+                    "com.github.lykmapipo.localburst.Subscription",
+                    "package com.github.lykmapipo.localburst;",
+                    "public class Subscription {}"),
+            JavaFileObjects.forSourceLines(
+                    "com.github.lykmapipo.localburst.SubscriberIndex",
+                    "package com.github.lykmapipo.localburst;",
+                    "public interface SubscriberIndex {",
+                    "    Binder binderOf(Class<?> type);",
+                    "    interface Binder {",
+                    "        java.util.List<Subscription> bind(",
+                    "                LocalBurst burst, Object subscriber,",
+                    "                java.util.Set<String> bound);",
+                    "    }",
+                    "}")
+    };
+
+    private static Compilation compile(JavaFileObject... sources) {
+        JavaFileObject[] all = new JavaFileObject[API.length + sources.length];
+        System.arraycopy(API, 0, all, 0, API.length);
+        System.arraycopy(sources, 0, all, API.length, sources.length);
+        return javac()
+                .withProcessors(new OnBurstProcessor())
+                .withOptions("-AlocalBurstIndex=test.TestIndex")
+                .compile(all);
+    }
+
+    @Test
+    public void shouldGenerateBinderAndIndex() {
+        Compilation compilation = compile(JavaFileObjects.forSourceLines(
+                "test.Screen",
+                "package test;",
+                "import android.os.Bundle;",
+                "import com.github.lykmapipo.localburst.OnBurst;",
+                "import com.github.lykmapipo.localburst.ThreadMode;",
+                "public class Screen {",
+                "    @OnBurst(value = {\"SYNC\", \"REFRESH\"}, priority = 2)",
+                "    public void onSync(String action, Bundle extras) {}",
+                "    @OnBurst(threadMode = ThreadMode.BACKGROUND)",
+                "    public void onUser(String user) {}",
+                "}"));
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.Screen_BurstBinder")
+                .contentsAsUtf8String()
+                .contains("subscriber.onSync(action, extras);");
+        assertThat(compilation).generatedSourceFile("test.Screen_BurstBinder")
+                .contentsAsUtf8String()
+                .contains("add(subscriptions, burst.subscribe(\"REFRESH\", options0, listener0));");
+        assertThat(compilation).generatedSourceFile("test.Screen_BurstBinder")
+                .contentsAsUtf8String()
+                .contains(".priority(2)");
+        assertThat(compilation).generatedSourceFile("test.Screen_BurstBinder")
+                .contentsAsUtf8String()
+                .contains("burst.subscribe(java.lang.String.class, options1, listener1)");
+        assertThat(compilation).generatedSourceFile("test.Screen_BurstBinder")
+                .contentsAsUtf8String()
+                .contains("ThreadMode.BACKGROUND");
+        assertThat(compilation).generatedSourceFile("test.TestIndex")
+                .contentsAsUtf8String()
+                .contains("this.binders.put(test.Screen.class, new test.Screen_BurstBinder());");
+    }
+
+    @Test
+    public void shouldBindOverriddenHandlerOnce() {
+        Compilation compilation = compile(
+                JavaFileObjects.forSourceLines(
+                        "test.Base",
+                        "package test;",
+                        "import android.os.Bundle;",
+                        "import com.github.lykmapipo.localburst.OnBurst;",
+                        "public class Base {",
+                        "    @OnBurst(\"SYNC\")",
+                        "    public void onSync(Bundle extras) {}",
+                        "}"),
+                JavaFileObjects.forSourceLines(
+                        "test.Child",
+                        "package test;",
+                        "import android.os.Bundle;",
+                        "import com.github.lykmapipo.localburst.OnBurst;",
+                        "public class Child extends Base {",
+                        "    @OnBurst(\"SYNC\")",
+                        "    @Override",
+                        "    public void onSync(Bundle extras) {}",
+                        "}"));
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.Base_BurstBinder")
+                .contentsAsUtf8String()
+                .contains("if (bound.add(\"onSync(android.os.Bundle)\")) {");
+        assertThat(compilation).generatedSourceFile("test.Child_BurstBinder")
+                .contentsAsUtf8String()
+                .contains("if (bound.add(\"onSync(android.os.Bundle)\")) {");
+    }
+
+    @Test
+    public void shouldRejectNonPublicHandler() {
+        Compilation compilation = compile(JavaFileObjects.forSourceLines(
+                "test.Screen",
+                "package test;",
+                "import com.github.lykmapipo.localburst.OnBurst;",
+                "public class Screen {",
+                "    @OnBurst(\"SYNC\")",
+                "    void onSync() {}",
+                "}"));
+
+        assertThat(compilation).failed();
+        assertThat(compilation)
+                .hadErrorContaining("@OnBurst handlers must be public and not static");
+    }
+
+    @Test
+    public void shouldRejectBadSignature() {
+        Compilation compilation = compile(JavaFileObjects.forSourceLines(
+                "test.Screen",
+                "package test;",
+                "import android.os.Bundle;",
+                "import com.github.lykmapipo.localburst.OnBurst;",
+                "public class Screen {",
+                "    @OnBurst(\"SYNC\")",
+                "    public void onSync(Bundle extras, String action) {}",
+                "}"));
+
+        assertThat(compilation).failed();
+        assertThat(compilation)
+                .hadErrorContaining("@OnBurst handler parameters must be (String, Bundle)");
+    }
+
+    @Test
+    public void shouldRejectExtrasHandlerWithoutActions() {
+        Compilation compilation = compile(JavaFileObjects.forSourceLines(
+                "test.Screen",
+                "package test;",
+                "import android.os.Bundle;",
+                "import com.github.lykmapipo.localburst.OnBurst;",
+                "public class Screen {",
+                "    @OnBurst",
+                "    public void onSync(Bundle extras) {}",
+                "}"));
+
+        assertThat(compilation).failed();
+        assertThat(compilation)
+                .hadErrorContaining("@OnBurst extras handlers must declare actions");
+    }
+
+    @Test
+    public void shouldRequireIndexOption() {
+        Compilation compilation = javac()
+                .withProcessors(new OnBurstProcessor())
+                .compile(ON_BURST, THREAD_MODE, JavaFileObjects.forSourceLines(
+                        "test.Screen",
+                        "package test;",
+                        "import com.github.lykmapipo.localburst.OnBurst;",
+                        "public class Screen {",
+                        "    @OnBurst(\"SYNC\")",
+                        "    public void onSync() {}",
+                        "}"));
+
+        assertThat(compilation).failed();
+        assertThat(compilation)
+                .hadErrorContaining("Missing annotation processor option localBurstIndex");
+    }
+}